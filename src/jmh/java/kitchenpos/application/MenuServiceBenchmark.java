@@ -0,0 +1,79 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuProduct;
+import kitchenpos.domain.Money;
+import kitchenpos.support.BenchmarkApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MenuServiceBenchmark {
+    @Param({"10", "1000"})
+    private int menus;
+
+    private ConfigurableApplicationContext context;
+    private MenuService menuService;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        BenchmarkApplication.seedMenus(context, menus);
+        context.getBean(MenuCatalog.class).reload();
+        menuService = context.getBean(MenuService.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * Includes the catalog snapshot reload that every committed menu write triggers.
+     */
+    @Benchmark
+    public Menu create() {
+        return menuService.create(menu(5));
+    }
+
+    @Benchmark
+    public List<Menu> list() {
+        return menuService.list();
+    }
+
+    private Menu menu(final int numberOfProducts) {
+        final List<MenuProduct> menuProducts = new ArrayList<>();
+        for (int i = 0; i < numberOfProducts; i++) {
+            final MenuProduct menuProduct = new MenuProduct();
+            menuProduct.setProductId((long) (i + 1));
+            menuProduct.setQuantity(1);
+            menuProducts.add(menuProduct);
+        }
+        final Menu menu = new Menu();
+        menu.setName("benchmark");
+        menu.setPrice(Money.of(16_000));
+        menu.setMenuGroupId(1L);
+        menu.setMenuProducts(menuProducts);
+        return menu;
+    }
+}
@@ -0,0 +1,63 @@
+package kitchenpos.application;
+
+import kitchenpos.dao.OrderTableDao;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.support.BenchmarkApplication;
+import kitchenpos.support.OrderFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Order creation throughput from concurrent clients, with and without group commit.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class OrderIntakeBenchmark {
+    private static final long ORDER_TABLE_ID = 1L;
+
+    @Param({"false", "true"})
+    private boolean groupCommit;
+
+    private ConfigurableApplicationContext context;
+    private OrderIntake orderIntake;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start("kitchenpos.order-intake.group-commit.enabled=" + groupCommit);
+        final OrderTableDao orderTableDao = context.getBean(OrderTableDao.class);
+        final OrderTable orderTable = orderTableDao.findById(ORDER_TABLE_ID).get();
+        orderTable.setEmpty(false);
+        orderTableDao.save(orderTable);
+        orderIntake = context.getBean(OrderIntake.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Order submit() {
+        return orderIntake.submit(OrderFixtures.order(ORDER_TABLE_ID, 1L)).join();
+    }
+}
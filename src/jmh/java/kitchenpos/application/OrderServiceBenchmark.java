@@ -0,0 +1,74 @@
+package kitchenpos.application;
+
+import kitchenpos.dao.OrderTableDao;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderSearchCondition;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.support.BenchmarkApplication;
+import kitchenpos.support.OrderFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderServiceBenchmark {
+    private static final long ORDER_TABLE_ID = 1L;
+
+    @Param({"100", "10000"})
+    private int orders;
+
+    private ConfigurableApplicationContext context;
+    private OrderService orderService;
+    private OrderSearchCondition firstPage;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        BenchmarkApplication.seedOrders(context, ORDER_TABLE_ID, orders);
+        final OrderTableDao orderTableDao = context.getBean(OrderTableDao.class);
+        final OrderTable orderTable = orderTableDao.findById(ORDER_TABLE_ID).get();
+        orderTable.setEmpty(false);
+        orderTableDao.save(orderTable);
+        orderService = context.getBean(OrderService.class);
+        firstPage = new OrderSearchCondition();
+        firstPage.setSize(100);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Order create() {
+        return orderService.create(OrderFixtures.orderOfMenus(ORDER_TABLE_ID, 3));
+    }
+
+    @Benchmark
+    public List<Order> list() {
+        return orderService.list();
+    }
+
+    @Benchmark
+    public List<Order> listFirstPage() {
+        return orderService.list(firstPage);
+    }
+}
@@ -0,0 +1,77 @@
+package kitchenpos.application;
+
+import kitchenpos.dao.OrderTableDao;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.domain.TableGroup;
+import kitchenpos.support.BenchmarkApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TableGroupServiceBenchmark {
+    @Param({"2", "100"})
+    private int tablesPerGroup;
+
+    @Param({"100", "10000"})
+    private int tables;
+
+    private ConfigurableApplicationContext context;
+    private TableGroupService tableGroupService;
+    private OrderTableDao orderTableDao;
+    private List<OrderTable> orderTables;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        BenchmarkApplication.seedEmptyTables(context, tables);
+        tableGroupService = context.getBean(TableGroupService.class);
+        orderTableDao = context.getBean(OrderTableDao.class);
+        orderTables = orderTableDao.findAll().stream()
+                .filter(OrderTable::isEmpty)
+                .limit(tablesPerGroup)
+                .collect(Collectors.toList());
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * Grouping leaves the tables occupied, so each invocation ungroups and empties them again.
+     */
+    @Benchmark
+    public void createAndUngroup() {
+        final TableGroup tableGroup = new TableGroup();
+        tableGroup.setOrderTables(orderTables);
+
+        final TableGroup savedTableGroup = tableGroupService.create(tableGroup);
+        tableGroupService.ungroup(savedTableGroup.getId());
+
+        for (final OrderTable orderTable : savedTableGroup.getOrderTables()) {
+            orderTable.setTableGroupId(null);
+            orderTable.setEmpty(true);
+            orderTableDao.save(orderTable);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package kitchenpos.dao;
+
+import kitchenpos.domain.Money;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.Product;
+import kitchenpos.support.BenchmarkApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * Raw DAO round trips outside any service transaction, so each call runs in its own auto-committed statement.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JdbcTemplateDaoBenchmark {
+    private static final long ORDER_TABLE_ID = 1L;
+    private static final int BATCH_SIZE = 10;
+
+    @Param({"100", "10000"})
+    private int orders;
+
+    private ConfigurableApplicationContext context;
+    private OrderDao orderDao;
+    private OrderLineItemDao orderLineItemDao;
+    private ProductDao productDao;
+    private long firstOrderId;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        BenchmarkApplication.seedOrders(context, ORDER_TABLE_ID, orders);
+        orderDao = context.getBean(OrderDao.class);
+        orderLineItemDao = context.getBean(OrderLineItemDao.class);
+        productDao = context.getBean(ProductDao.class);
+        firstOrderId = orderDao.findAll().get(0).getId();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Product productSave() {
+        final Product product = new Product();
+        product.setName("benchmark");
+        product.setPrice(Money.of(16_000));
+        return productDao.save(product);
+    }
+
+    @Benchmark
+    public Optional<Product> productFindById() {
+        return productDao.findById(1L);
+    }
+
+    @Benchmark
+    public Order orderSave() {
+        final Order order = new Order();
+        order.setOrderTableId(ORDER_TABLE_ID);
+        order.setOrderStatus(OrderStatus.COMPLETION.name());
+        order.setOrderedTime(LocalDateTime.now());
+        return orderDao.save(order);
+    }
+
+    @Benchmark
+    public Optional<Order> orderFindById() {
+        return orderDao.findById(randomOrderId());
+    }
+
+    @Benchmark
+    public List<OrderLineItem> orderLineItemSaveAll() {
+        final long orderId = randomOrderId();
+        final List<OrderLineItem> orderLineItems = new ArrayList<>();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            final OrderLineItem orderLineItem = new OrderLineItem();
+            orderLineItem.setOrderId(orderId);
+            orderLineItem.setMenuId(1L);
+            orderLineItem.setQuantity(1);
+            orderLineItems.add(orderLineItem);
+        }
+        return orderLineItemDao.saveAll(orderLineItems);
+    }
+
+    @Benchmark
+    public List<OrderLineItem> orderLineItemFindAllByOrderIdIn() {
+        final long from = randomOrderId();
+        final List<Long> orderIds = LongStream.range(from, from + BATCH_SIZE)
+                .boxed()
+                .collect(Collectors.toList());
+        return orderLineItemDao.findAllByOrderIdIn(orderIds);
+    }
+
+    private long randomOrderId() {
+        return firstOrderId + ThreadLocalRandom.current().nextInt(orders);
+    }
+}
@@ -0,0 +1,66 @@
+package kitchenpos.domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The menu price rule, summing price times quantity over the menu products, with Money and with BigDecimal.
+ * Run with {@code -prof gc} to compare allocation rates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MoneyBenchmark {
+    @Param({"5", "100"})
+    private int menuProducts;
+
+    private Money[] moneyPrices;
+    private BigDecimal[] bigDecimalPrices;
+    private long[] quantities;
+
+    @Setup
+    public void setUp() {
+        moneyPrices = new Money[menuProducts];
+        bigDecimalPrices = new BigDecimal[menuProducts];
+        quantities = new long[menuProducts];
+        for (int i = 0; i < menuProducts; i++) {
+            final long minorUnits = 1_600_000L + i * 50L;
+            moneyPrices[i] = Money.ofMinorUnits(minorUnits);
+            bigDecimalPrices[i] = BigDecimal.valueOf(minorUnits, Money.SCALE);
+            quantities[i] = i % 3 + 1;
+        }
+    }
+
+    @Benchmark
+    public boolean money() {
+        Money sum = Money.ZERO;
+        for (int i = 0; i < menuProducts; i++) {
+            sum = sum.plus(moneyPrices[i].times(quantities[i]));
+        }
+        return moneyPrices[0].isGreaterThan(sum);
+    }
+
+    @Benchmark
+    public boolean bigDecimal() {
+        BigDecimal sum = BigDecimal.ZERO;
+        for (int i = 0; i < menuProducts; i++) {
+            sum = sum.add(bigDecimalPrices[i].multiply(BigDecimal.valueOf(quantities[i])));
+        }
+        return bigDecimalPrices[0].compareTo(sum) > 0;
+    }
+}
@@ -0,0 +1,89 @@
+package kitchenpos.support;
+
+import kitchenpos.Application;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Boots the application without a web server against its own in-memory H2 database and seeds bulk data.
+ * SQL logging and the scheduled archiver are switched off so that they do not end up in the measurements.
+ */
+public class BenchmarkApplication {
+    private static final int SEED_BATCH_SIZE = 1_000;
+
+    private BenchmarkApplication() {
+    }
+
+    public static ConfigurableApplicationContext start(final String... properties) {
+        final List<String> args = new ArrayList<>(Arrays.asList(
+                "--spring.datasource.url=jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                "--logging.level.root=WARN",
+                "--logging.level.org.springframework.jdbc.core=WARN",
+                "--kitchenpos.order-archive.enabled=false"
+        ));
+        for (final String property : properties) {
+            args.add("--" + property);
+        }
+        return new SpringApplicationBuilder(Application.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false)
+                .run(args.toArray(new String[0]));
+    }
+
+    /**
+     * Adds completed orders on the given table, each with one line item for every default menu.
+     */
+    public static void seedOrders(final ConfigurableApplicationContext context, final long orderTableId, final int count) {
+        final JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        final Timestamp orderedTime = Timestamp.valueOf(LocalDateTime.now().minusDays(1));
+        final List<Object[]> orders = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            orders.add(new Object[]{orderTableId, "COMPLETION", orderedTime});
+            if (orders.size() == SEED_BATCH_SIZE || i == count - 1) {
+                jdbcTemplate.batchUpdate(
+                        "INSERT INTO orders (order_table_id, order_status, ordered_time) VALUES (?, ?, ?)", orders
+                );
+                orders.clear();
+            }
+        }
+        jdbcTemplate.update("INSERT INTO order_line_item (order_id, menu_id, quantity)" +
+                " SELECT o.id, m.id, 1 FROM orders o CROSS JOIN menu m WHERE o.order_table_id = ?", orderTableId);
+    }
+
+    public static void seedMenus(final ConfigurableApplicationContext context, final int count) {
+        final JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        final List<Object[]> menus = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            menus.add(new Object[]{"menu-" + i, 16_000, 1L});
+            if (menus.size() == SEED_BATCH_SIZE || i == count - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO menu (name, price, menu_group_id) VALUES (?, ?, ?)", menus);
+                menus.clear();
+            }
+        }
+        jdbcTemplate.update("INSERT INTO menu_product (menu_id, product_id, quantity)" +
+                " SELECT id, 1, 1 FROM menu WHERE name LIKE 'menu-%'");
+    }
+
+    public static void seedEmptyTables(final ConfigurableApplicationContext context, final int count) {
+        final JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        final List<Object[]> orderTables = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            orderTables.add(new Object[]{0, true});
+            if (orderTables.size() == SEED_BATCH_SIZE || i == count - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO order_table (number_of_guests, empty) VALUES (?, ?)", orderTables);
+                orderTables.clear();
+            }
+        }
+    }
+}
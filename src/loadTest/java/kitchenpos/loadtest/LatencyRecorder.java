@@ -0,0 +1,96 @@
+package kitchenpos.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint latency histograms in microseconds. Values are recorded lock-free from the workers, and
+ * {@link #reset()} discards everything recorded so far, which is how the warmup is dropped.
+ */
+class LatencyRecorder {
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final double MICROS_PER_MILLI = 1_000.0;
+
+    private final ConcurrentMap<String, Recorder> recorders = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    void record(final String endpoint, final long elapsedNanos) {
+        recorder(endpoint).recordValue(TimeUnit.NANOSECONDS.toMicros(elapsedNanos));
+    }
+
+    void recordError(final String endpoint) {
+        recorder(endpoint);
+        errors.computeIfAbsent(endpoint, key -> new LongAdder()).increment();
+    }
+
+    void reset() {
+        recorders.values().forEach(Recorder::getIntervalHistogram);
+        errors.values().forEach(LongAdder::reset);
+    }
+
+    /**
+     * Writes a summary of every endpoint plus its full percentile distribution, and returns the summary.
+     */
+    String writeReport(final Path reportDir, final double elapsedSeconds) {
+        final Map<String, Histogram> histograms = new TreeMap<>();
+        recorders.forEach((endpoint, recorder) -> histograms.put(endpoint, recorder.getIntervalHistogram()));
+
+        final StringBuilder summary = new StringBuilder(String.format(
+                "%-48s %9s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms"
+        ));
+        try {
+            Files.createDirectories(reportDir);
+            for (final Map.Entry<String, Histogram> entry : histograms.entrySet()) {
+                final String endpoint = entry.getKey();
+                final Histogram histogram = entry.getValue();
+                final LongAdder errorCount = errors.get(endpoint);
+                summary.append(String.format(
+                        "%-48s %9d %7d %9.1f %9.3f %9.3f %9.3f %9.3f%n",
+                        endpoint,
+                        histogram.getTotalCount(),
+                        errorCount == null ? 0L : errorCount.sum(),
+                        histogram.getTotalCount() / elapsedSeconds,
+                        millis(histogram.getValueAtPercentile(50.0)),
+                        millis(histogram.getValueAtPercentile(99.0)),
+                        millis(histogram.getValueAtPercentile(99.9)),
+                        millis(histogram.getMaxValue())
+                ));
+                try (final PrintStream out = new PrintStream(
+                        Files.newOutputStream(reportDir.resolve(fileName(endpoint))), false, StandardCharsets.UTF_8.name()
+                )) {
+                    histogram.outputPercentileDistribution(out, MICROS_PER_MILLI);
+                }
+            }
+            Files.write(reportDir.resolve("summary.txt"), summary.toString().getBytes(StandardCharsets.UTF_8));
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return summary.toString();
+    }
+
+    private Recorder recorder(final String endpoint) {
+        return recorders.computeIfAbsent(endpoint, key -> new Recorder(SIGNIFICANT_DIGITS));
+    }
+
+    private static double millis(final long micros) {
+        return micros / MICROS_PER_MILLI;
+    }
+
+    private static String fileName(final String endpoint) {
+        return endpoint.replaceAll("[^A-Za-z0-9]+", "_").replaceAll("^_|_$", "") + ".hgrm";
+    }
+}
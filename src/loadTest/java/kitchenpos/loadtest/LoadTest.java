@@ -0,0 +1,121 @@
+package kitchenpos.loadtest;
+
+import kitchenpos.Application;
+import org.springframework.boot.Banner;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.web.client.RestTemplate;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Boots the application on a random port against its own in-memory H2 database and replays
+ * {@link OrderScenario} over HTTP from {@code concurrency} workers, started at {@code rate} scenarios per second.
+ * Nothing outside the JVM is needed. With {@code --base-url} the scenarios go to a server running in a JVM of its own
+ * instead, so that client and server threads are not scheduled and collected together.
+ * <p>
+ * Endpoint latencies are service times of single requests. The {@value OrderScenario#SCENARIO} latency is measured
+ * from the moment the scenario was scheduled to start, so time a worker spent falling behind the rate is counted
+ * instead of hidden.
+ */
+public class LoadTest {
+    private LoadTest() {
+    }
+
+    public static void main(final String[] args) throws InterruptedException {
+        final LoadTestOptions options = LoadTestOptions.parse(args);
+        // HttpURLConnection keeps only five idle connections per host by default.
+        System.setProperty("http.maxConnections", String.valueOf(options.getConcurrency()));
+
+        final LatencyRecorder latencyRecorder = new LatencyRecorder();
+        final LongAdder failedScenarios = new LongAdder();
+        final String summary;
+        final ConfigurableApplicationContext context = Objects.isNull(options.getBaseUrl())
+                ? start(options.getApplicationArgs())
+                : null;
+        try {
+            final String baseUrl = Objects.isNull(context)
+                    ? options.getBaseUrl()
+                    : "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+            final RestTemplate restTemplate = new RestTemplateBuilder()
+                    .rootUri(baseUrl)
+                    .build();
+            final OrderScenario scenario = new OrderScenario(restTemplate, latencyRecorder);
+
+            final long startedAt = System.nanoTime();
+            final long measureFrom = startedAt + TimeUnit.SECONDS.toNanos(options.getWarmupSeconds());
+            final long measureUntil = measureFrom + TimeUnit.SECONDS.toNanos(options.getDurationSeconds());
+            final long period = options.getRate() == 0
+                    ? 0L
+                    : (long) (TimeUnit.SECONDS.toNanos(1) * options.getConcurrency() / options.getRate());
+
+            final ExecutorService workers = Executors.newFixedThreadPool(options.getConcurrency());
+            for (int i = 0; i < options.getConcurrency(); i++) {
+                final long firstStart = startedAt + period * i / options.getConcurrency();
+                workers.execute(() -> {
+                    long scheduledAt = firstStart;
+                    while (scheduledAt < measureUntil && System.nanoTime() < measureUntil) {
+                        LockSupport.parkNanos(scheduledAt - System.nanoTime());
+                        final long begin = period == 0 ? System.nanoTime() : scheduledAt;
+                        if (scenario.run()) {
+                            latencyRecorder.record(OrderScenario.SCENARIO, System.nanoTime() - begin);
+                        } else {
+                            latencyRecorder.recordError(OrderScenario.SCENARIO);
+                            failedScenarios.increment();
+                        }
+                        scheduledAt = period == 0 ? System.nanoTime() : scheduledAt + period;
+                    }
+                });
+            }
+            workers.shutdown();
+
+            LockSupport.parkNanos(measureFrom - System.nanoTime());
+            latencyRecorder.reset();
+            failedScenarios.reset();
+            workers.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+            final double elapsedSeconds = (System.nanoTime() - measureFrom) / (double) TimeUnit.SECONDS.toNanos(1);
+
+            final Path reportDir = Paths.get(options.getReportDir());
+            summary = latencyRecorder.writeReport(reportDir, elapsedSeconds);
+            System.out.printf("server=%s concurrency=%d rate=%s/s measured=%.1fs report=%s%n",
+                    baseUrl, options.getConcurrency(), options.getRate() == 0 ? "unlimited" : options.getRate(),
+                    elapsedSeconds, reportDir.toAbsolutePath());
+        } finally {
+            if (Objects.nonNull(context)) {
+                context.close();
+            }
+        }
+        System.out.print(summary);
+        if (failedScenarios.sum() > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static ConfigurableApplicationContext start(final List<String> applicationArgs) {
+        final List<String> args = new ArrayList<>(Arrays.asList(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                "--logging.level.root=WARN",
+                "--logging.level.org.springframework.jdbc.core=WARN",
+                "--kitchenpos.order-archive.enabled=false"
+        ));
+        args.addAll(applicationArgs);
+        return new SpringApplicationBuilder(Application.class)
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false)
+                .run(args.toArray(new String[0]));
+    }
+}
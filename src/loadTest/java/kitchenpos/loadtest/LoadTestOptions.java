@@ -0,0 +1,97 @@
+package kitchenpos.loadtest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Command line options of {@link LoadTest}. Arguments it does not recognise are passed on to the application,
+ * so {@code --kitchenpos.order-intake.group-commit.enabled=true} switches the server under test. With
+ * {@code --base-url} no server is started, and a separately started one has to be configured by its own arguments.
+ */
+class LoadTestOptions {
+    private int concurrency = 8;
+    private double rate = 50;
+    private int warmupSeconds = 5;
+    private int durationSeconds = 30;
+    private String reportDir = "build/reports/load-test";
+    private String baseUrl;
+    private final List<String> applicationArgs = new ArrayList<>();
+
+    static LoadTestOptions parse(final String... args) {
+        final LoadTestOptions options = new LoadTestOptions();
+        for (final String arg : args) {
+            final int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            final String name = arg.substring(2, separator);
+            final String value = arg.substring(separator + 1);
+            switch (name) {
+                case "concurrency":
+                    options.concurrency = Integer.parseInt(value);
+                    break;
+                case "rate":
+                    options.rate = Double.parseDouble(value);
+                    break;
+                case "warmup-seconds":
+                    options.warmupSeconds = Integer.parseInt(value);
+                    break;
+                case "duration-seconds":
+                    options.durationSeconds = Integer.parseInt(value);
+                    break;
+                case "report-dir":
+                    options.reportDir = value;
+                    break;
+                case "base-url":
+                    options.baseUrl = value;
+                    break;
+                default:
+                    options.applicationArgs.add(arg);
+            }
+        }
+        if (options.concurrency < 1 || options.rate < 0 || options.warmupSeconds < 0 || options.durationSeconds < 1) {
+            throw new IllegalArgumentException("concurrency and duration-seconds must be positive, rate and warmup-seconds not negative");
+        }
+        if (Objects.nonNull(options.baseUrl) && !options.applicationArgs.isEmpty()) {
+            throw new IllegalArgumentException("Application arguments " + options.applicationArgs
+                    + " only apply to the embedded server, not to " + options.baseUrl);
+        }
+        return options;
+    }
+
+    int getConcurrency() {
+        return concurrency;
+    }
+
+    /**
+     * Scenarios started per second across all workers; 0 runs every worker back to back.
+     */
+    double getRate() {
+        return rate;
+    }
+
+    int getWarmupSeconds() {
+        return warmupSeconds;
+    }
+
+    int getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    String getReportDir() {
+        return reportDir;
+    }
+
+    /**
+     * Root URL of a server started separately, or {@code null} to boot an embedded one.
+     */
+    String getBaseUrl() {
+        return baseUrl;
+    }
+
+    List<String> getApplicationArgs() {
+        return Collections.unmodifiableList(applicationArgs);
+    }
+}
@@ -0,0 +1,104 @@
+package kitchenpos.loadtest;
+
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.domain.TableGroup;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * One party's visit, following the requests in {@code http/}: two empty tables are created and grouped,
+ * the group orders, the order goes through MEAL to COMPLETION and the group is released again.
+ * Every scenario works on tables of its own, so concurrent scenarios never contend for the same rows.
+ */
+class OrderScenario {
+    static final String SCENARIO = "scenario";
+
+    private static final long[] MENU_IDS = {1L, 2L, 3L};
+
+    private final RestTemplate restTemplate;
+    private final LatencyRecorder latencyRecorder;
+
+    OrderScenario(final RestTemplate restTemplate, final LatencyRecorder latencyRecorder) {
+        this.restTemplate = restTemplate;
+        this.latencyRecorder = latencyRecorder;
+    }
+
+    /**
+     * Returns {@code false} if a request failed; the remaining steps are skipped then.
+     */
+    boolean run() {
+        try {
+            final OrderTable first = createTable();
+            final OrderTable second = createTable();
+            final TableGroup tableGroup = timed("POST /api/table-groups", () -> restTemplate.postForObject(
+                    "/api/table-groups", tableGroup(first, second), TableGroup.class
+            ));
+            final Order order = timed("POST /api/orders", () -> restTemplate.postForObject(
+                    "/api/orders", order(first.getId()), Order.class
+            ));
+            changeOrderStatus(order.getId(), OrderStatus.MEAL);
+            changeOrderStatus(order.getId(), OrderStatus.COMPLETION);
+            timed("DELETE /api/table-groups/{tableGroupId}", () -> restTemplate.exchange(
+                    "/api/table-groups/{tableGroupId}", HttpMethod.DELETE, null, Void.class, tableGroup.getId()
+            ));
+            return true;
+        } catch (final RestClientException e) {
+            return false;
+        }
+    }
+
+    private OrderTable createTable() {
+        final OrderTable orderTable = new OrderTable();
+        orderTable.setNumberOfGuests(0);
+        orderTable.setEmpty(true);
+        return timed("POST /api/tables", () -> restTemplate.postForObject("/api/tables", orderTable, OrderTable.class));
+    }
+
+    private void changeOrderStatus(final Long orderId, final OrderStatus orderStatus) {
+        final Order order = new Order();
+        order.setOrderStatus(orderStatus.name());
+        timed("PUT /api/orders/{orderId}/order-status", () -> restTemplate.exchange(
+                "/api/orders/{orderId}/order-status", HttpMethod.PUT, new HttpEntity<>(order),
+                Order.class, orderId
+        ));
+    }
+
+    private <T> T timed(final String endpoint, final Supplier<T> request) {
+        final long startedAt = System.nanoTime();
+        try {
+            final T response = request.get();
+            latencyRecorder.record(endpoint, System.nanoTime() - startedAt);
+            return response;
+        } catch (final RestClientException e) {
+            latencyRecorder.recordError(endpoint);
+            throw e;
+        }
+    }
+
+    private static TableGroup tableGroup(final OrderTable... orderTables) {
+        final TableGroup tableGroup = new TableGroup();
+        tableGroup.setOrderTables(Arrays.asList(orderTables));
+        return tableGroup;
+    }
+
+    private static Order order(final Long orderTableId) {
+        final OrderLineItem[] orderLineItems = new OrderLineItem[MENU_IDS.length];
+        for (int i = 0; i < MENU_IDS.length; i++) {
+            orderLineItems[i] = new OrderLineItem();
+            orderLineItems[i].setMenuId(MENU_IDS[i]);
+            orderLineItems[i].setQuantity(1);
+        }
+        final Order order = new Order();
+        order.setOrderTableId(orderTableId);
+        order.setOrderLineItems(Arrays.asList(orderLineItems));
+        return order;
+    }
+}
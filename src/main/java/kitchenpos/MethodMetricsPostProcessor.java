@@ -0,0 +1,147 @@
+package kitchenpos;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kitchenpos.application.MenuService;
+import kitchenpos.application.OrderService;
+import kitchenpos.application.TableGroupService;
+import kitchenpos.application.TableService;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.ClassFilter;
+import org.springframework.aop.framework.AbstractAdvisingBeanPostProcessor;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcher;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Times every public method of the order, table, table group and menu services ({@value #SERVICE_METRIC}) and of
+ * the {@code JdbcTemplate*Dao} classes ({@value #DAO_METRIC}). DAO calls also count the rows they return or update
+ * as {@value #ROWS_READ_METRIC} and {@value #ROWS_WRITTEN_METRIC}; calls that return neither are only timed.
+ * <p>
+ * The timer wraps any transaction proxy, so service timings include the commit.
+ */
+@Component
+public class MethodMetricsPostProcessor extends AbstractAdvisingBeanPostProcessor {
+    public static final String SERVICE_METRIC = "kitchenpos.service";
+    public static final String DAO_METRIC = "kitchenpos.dao";
+    public static final String ROWS_READ_METRIC = "kitchenpos.dao.rows.read";
+    public static final String ROWS_WRITTEN_METRIC = "kitchenpos.dao.rows.written";
+
+    private static final Set<Class<?>> SERVICES = new HashSet<>(Arrays.asList(
+            OrderService.class, TableService.class, TableGroupService.class, MenuService.class
+    ));
+    private static final String DAO_CLASS_PREFIX = "kitchenpos.dao.JdbcTemplate";
+    private static final String DOMAIN_PACKAGE_PREFIX = "kitchenpos.domain.";
+    private static final String[] WRITE_METHOD_PREFIXES = {"save", "update", "delete", "add", "move"};
+
+    private static final ClassFilter MEASURED_CLASSES = targetClass ->
+            SERVICES.contains(targetClass) || isDao(targetClass);
+
+    private static final StaticMethodMatcher PUBLIC_METHODS = new StaticMethodMatcher() {
+        @Override
+        public boolean matches(final Method method, final Class<?> targetClass) {
+            return Modifier.isPublic(method.getModifiers()) && method.getDeclaringClass() != Object.class;
+        }
+    };
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public MethodMetricsPostProcessor(final ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.advisor = new DefaultPointcutAdvisor(
+                new ComposablePointcut(MEASURED_CLASSES, PUBLIC_METHODS),
+                (MethodInterceptor) this::measure
+        );
+        setBeforeExistingAdvisors(true);
+    }
+
+    private Object measure(final MethodInvocation invocation) throws Throwable {
+        final MeterRegistry registry = meterRegistry.getObject();
+        final Class<?> targetClass = AopUtils.getTargetClass(invocation.getThis());
+        final boolean dao = isDao(targetClass);
+        final String className = targetClass.getSimpleName();
+        final String methodName = invocation.getMethod().getName();
+
+        final Timer.Sample sample = Timer.start(registry);
+        String exception = "none";
+        try {
+            final Object result = invocation.proceed();
+            if (dao) {
+                countRows(registry, className, methodName, result);
+            }
+            return result;
+        } catch (final Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(dao ? DAO_METRIC : SERVICE_METRIC)
+                    .tag("class", className)
+                    .tag("method", methodName)
+                    .tag("exception", exception)
+                    .register(registry));
+        }
+    }
+
+    private static void countRows(
+            final MeterRegistry registry,
+            final String className,
+            final String methodName,
+            final Object result
+    ) {
+        final boolean write = isWrite(methodName);
+        final long rows = rows(result, write);
+        if (rows < 0) {
+            return;
+        }
+        Counter.builder(write ? ROWS_WRITTEN_METRIC : ROWS_READ_METRIC)
+                .tag("class", className)
+                .tag("method", methodName)
+                .register(registry)
+                .increment(rows);
+    }
+
+    /**
+     * Returns -1 when the result does not tell how many rows were touched, e.g. for exists, count and void methods.
+     */
+    private static long rows(final Object result, final boolean write) {
+        if (result instanceof Collection) {
+            return ((Collection<?>) result).size();
+        }
+        if (result instanceof Optional) {
+            return ((Optional<?>) result).isPresent() ? 1L : 0L;
+        }
+        if (write && result instanceof Integer) {
+            return (Integer) result;
+        }
+        if (result != null && result.getClass().getName().startsWith(DOMAIN_PACKAGE_PREFIX)) {
+            return 1L;
+        }
+        return -1L;
+    }
+
+    private static boolean isWrite(final String methodName) {
+        for (final String prefix : WRITE_METHOD_PREFIXES) {
+            if (methodName.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isDao(final Class<?> targetClass) {
+        return targetClass.getName().startsWith(DAO_CLASS_PREFIX);
+    }
+}
@@ -0,0 +1,74 @@
+package kitchenpos.application;
+
+import kitchenpos.dao.OrderDao;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderSearchCondition;
+import kitchenpos.domain.OrderStatus;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Number of COOKING or MEAL orders per order table, kept in memory so that table checks need no query.
+ * The index errs on the busy side: a new order counts as soon as it is written and is taken back only if its
+ * transaction rolls back, while a closed order stops counting once its transaction commits. The index is rebuilt
+ * from the database on startup.
+ */
+@Component
+public class ActiveOrderIndex implements SmartInitializingSingleton {
+    private static final List<String> ACTIVE_ORDER_STATUSES = Arrays.asList(
+            OrderStatus.COOKING.name(), OrderStatus.MEAL.name()
+    );
+
+    private final OrderDao orderDao;
+    private final Map<Long, Integer> activeOrderCounts = new ConcurrentHashMap<>();
+
+    public ActiveOrderIndex(final OrderDao orderDao) {
+        this.orderDao = orderDao;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        final OrderSearchCondition condition = new OrderSearchCondition();
+        condition.setOrderStatuses(ACTIVE_ORDER_STATUSES);
+        final List<Order> activeOrders = orderDao.findAllByCondition(condition);
+
+        activeOrderCounts.clear();
+        for (final Order activeOrder : activeOrders) {
+            increase(activeOrder.getOrderTableId());
+        }
+    }
+
+    public boolean hasActiveOrder(final Long orderTableId) {
+        return activeOrderCounts.containsKey(orderTableId);
+    }
+
+    public boolean hasActiveOrder(final List<Long> orderTableIds) {
+        return orderTableIds.stream()
+                .anyMatch(this::hasActiveOrder);
+    }
+
+    public void opened(final Long orderTableId) {
+        AfterCommit.runUndoingOnRollback(() -> increase(orderTableId), () -> decrease(orderTableId));
+    }
+
+    public void closed(final Long orderTableId) {
+        AfterCommit.run(() -> decrease(orderTableId));
+    }
+
+    private void increase(final Long orderTableId) {
+        activeOrderCounts.merge(orderTableId, 1, Integer::sum);
+    }
+
+    private void decrease(final Long orderTableId) {
+        activeOrderCounts.computeIfPresent(orderTableId, (key, count) -> count > 1 ? count - 1 : null);
+    }
+}
@@ -0,0 +1,28 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Order;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+
+@Component
+@ConditionalOnProperty(name = "kitchenpos.order-intake.group-commit.enabled", havingValue = "false", matchIfMissing = true)
+public class DirectOrderIntake implements OrderIntake {
+    private final OrderService orderService;
+
+    public DirectOrderIntake(final OrderService orderService) {
+        this.orderService = orderService;
+    }
+
+    @Override
+    public CompletableFuture<Order> submit(final Order order, final String idempotencyKey) {
+        try {
+            return CompletableFuture.completedFuture(orderService.create(order, idempotencyKey));
+        } catch (final RuntimeException e) {
+            final CompletableFuture<Order> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+    }
+}
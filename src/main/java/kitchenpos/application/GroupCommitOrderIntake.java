@@ -0,0 +1,143 @@
+package kitchenpos.application;
+
+import jakarta.annotation.PreDestroy;
+import kitchenpos.domain.Order;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Queues order creation and commits the queued orders in micro-batches from a single writer thread.
+ * Each order runs inside its own savepoint, so a rejected order rolls back alone and only its caller sees the failure.
+ * Callers' futures are completed on the task executor, so their continuations never hold up the writer.
+ */
+@Component
+@ConditionalOnProperty(name = "kitchenpos.order-intake.group-commit.enabled", havingValue = "true")
+public class GroupCommitOrderIntake implements OrderIntake {
+    private final OrderService orderService;
+    private final TaskExecutor completionExecutor;
+    private final TransactionTemplate batchTransaction;
+    private final TransactionTemplate orderTransaction;
+    private final BlockingQueue<PendingOrder> queue;
+    private final int batchSize;
+    private final long maxWaitNanos;
+    private final Thread writer;
+
+    public GroupCommitOrderIntake(
+            final OrderService orderService,
+            final PlatformTransactionManager transactionManager,
+            @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) final TaskExecutor completionExecutor,
+            @Value("${kitchenpos.order-intake.group-commit.queue-capacity:1024}") final int queueCapacity,
+            @Value("${kitchenpos.order-intake.group-commit.batch-size:32}") final int batchSize,
+            @Value("${kitchenpos.order-intake.group-commit.max-wait-millis:5}") final long maxWaitMillis
+    ) {
+        this.orderService = orderService;
+        this.completionExecutor = completionExecutor;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.orderTransaction = new TransactionTemplate(transactionManager);
+        this.orderTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        this.writer = new Thread(this::drain, "order-intake-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public CompletableFuture<Order> submit(final Order order, final String idempotencyKey) {
+        final PendingOrder pendingOrder = new PendingOrder(order, idempotencyKey);
+        if (!queue.offer(pendingOrder)) {
+            pendingOrder.future.completeExceptionally(new RejectedExecutionException("order intake queue is full"));
+        }
+        return pendingOrder.future;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writer.interrupt();
+    }
+
+    private void drain() {
+        final List<PendingOrder> batch = new ArrayList<>(batchSize);
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                batch.add(queue.take());
+                final long deadline = System.nanoTime() + maxWaitNanos;
+                while (batch.size() < batchSize) {
+                    final PendingOrder next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                commit(batch);
+                batch.clear();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            final RejectedExecutionException shutdown = new RejectedExecutionException("order intake is shut down");
+            batch.forEach(pendingOrder -> pendingOrder.future.completeExceptionally(shutdown));
+            queue.forEach(pendingOrder -> pendingOrder.future.completeExceptionally(shutdown));
+        }
+    }
+
+    private void commit(final List<PendingOrder> batch) {
+        final Map<PendingOrder, Order> savedOrders = new LinkedHashMap<>();
+        try {
+            batchTransaction.executeWithoutResult(status -> {
+                for (final PendingOrder pendingOrder : batch) {
+                    try {
+                        savedOrders.put(pendingOrder, orderTransaction.execute(
+                                nested -> orderService.create(pendingOrder.order, pendingOrder.idempotencyKey)
+                        ));
+                    } catch (final RuntimeException e) {
+                        completeAsync(pendingOrder, future -> future.completeExceptionally(e));
+                    }
+                }
+            });
+        } catch (final RuntimeException e) {
+            savedOrders.keySet().forEach(pendingOrder -> completeAsync(pendingOrder, future -> future.completeExceptionally(e)));
+            return;
+        }
+        savedOrders.forEach((pendingOrder, savedOrder) -> completeAsync(pendingOrder, future -> future.complete(savedOrder)));
+    }
+
+    private void completeAsync(final PendingOrder pendingOrder, final Consumer<CompletableFuture<Order>> completion) {
+        try {
+            completionExecutor.execute(() -> completion.accept(pendingOrder.future));
+        } catch (final TaskRejectedException e) {
+            completion.accept(pendingOrder.future);
+        }
+    }
+
+    private static class PendingOrder {
+        private final Order order;
+        private final String idempotencyKey;
+        private final CompletableFuture<Order> future = new CompletableFuture<>();
+
+        PendingOrder(final Order order, final String idempotencyKey) {
+            this.order = order;
+            this.idempotencyKey = idempotencyKey;
+        }
+    }
+}
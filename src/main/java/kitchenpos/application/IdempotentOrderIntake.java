@@ -0,0 +1,129 @@
+package kitchenpos.application;
+
+import kitchenpos.dao.IdempotencyKeyDao;
+import kitchenpos.domain.IdempotencyKey;
+import kitchenpos.domain.Order;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Replays the order created for an Idempotency-Key instead of creating it again.
+ * Recent keys are answered from a bounded in-memory store, older ones from the idempotency_key table,
+ * and concurrent requests with the same key share one in-flight creation. The key row is committed together
+ * with the order, see {@link OrderService#create(Order, String)}.
+ */
+@Component
+public class IdempotentOrderIntake {
+    private final OrderIntake orderIntake;
+    private final OrderService orderService;
+    private final IdempotencyKeyDao idempotencyKeyDao;
+    private final Duration timeToLive;
+    private final Map<String, CompletableFuture<Order>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, StoredOrder> recent;
+
+    public IdempotentOrderIntake(
+            final OrderIntake orderIntake,
+            final OrderService orderService,
+            final IdempotencyKeyDao idempotencyKeyDao,
+            @Value("${kitchenpos.idempotency.time-to-live-seconds:86400}") final long timeToLiveSeconds,
+            @Value("${kitchenpos.idempotency.max-entries:10000}") final int maxEntries
+    ) {
+        this.orderIntake = orderIntake;
+        this.orderService = orderService;
+        this.idempotencyKeyDao = idempotencyKeyDao;
+        this.timeToLive = Duration.ofSeconds(timeToLiveSeconds);
+        this.recent = new LinkedHashMap<String, StoredOrder>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, StoredOrder> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public CompletableFuture<Order> submit(final String key, final Order order) {
+        final Optional<Order> recentOrder = findRecent(key);
+        if (recentOrder.isPresent()) {
+            return CompletableFuture.completedFuture(recentOrder.get());
+        }
+
+        final CompletableFuture<Order> future = new CompletableFuture<>();
+        final CompletableFuture<Order> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            return existing;
+        }
+
+        try {
+            execute(key, order).whenComplete((storedOrder, throwable) -> {
+                if (throwable == null) {
+                    remember(key, storedOrder);
+                }
+                inFlight.remove(key);
+                if (throwable == null) {
+                    future.complete(storedOrder.order);
+                } else {
+                    future.completeExceptionally(throwable);
+                }
+            });
+        } catch (final RuntimeException e) {
+            inFlight.remove(key);
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    private CompletableFuture<StoredOrder> execute(final String key, final Order order) {
+        final Optional<IdempotencyKey> savedIdempotencyKey = idempotencyKeyDao.findById(key);
+        if (savedIdempotencyKey.isPresent()) {
+            final IdempotencyKey idempotencyKey = savedIdempotencyKey.get();
+            if (isAlive(idempotencyKey.getCreatedDate())) {
+                final Order savedOrder = orderService.find(idempotencyKey.getOrderId());
+                return CompletableFuture.completedFuture(new StoredOrder(savedOrder, idempotencyKey.getCreatedDate()));
+            }
+            idempotencyKeyDao.deleteById(key);
+        }
+        return orderIntake.submit(order, key)
+                .thenApply(savedOrder -> new StoredOrder(savedOrder, savedOrder.getOrderedTime()));
+    }
+
+    private Optional<Order> findRecent(final String key) {
+        synchronized (recent) {
+            final StoredOrder storedOrder = recent.get(key);
+            if (storedOrder == null) {
+                return Optional.empty();
+            }
+            if (!isAlive(storedOrder.createdDate)) {
+                recent.remove(key);
+                return Optional.empty();
+            }
+            return Optional.of(storedOrder.order);
+        }
+    }
+
+    private void remember(final String key, final StoredOrder storedOrder) {
+        synchronized (recent) {
+            recent.put(key, storedOrder);
+        }
+    }
+
+    private boolean isAlive(final LocalDateTime createdDate) {
+        return createdDate.plus(timeToLive).isAfter(LocalDateTime.now());
+    }
+
+    private static class StoredOrder {
+        private final Order order;
+        private final LocalDateTime createdDate;
+
+        StoredOrder(final Order order, final LocalDateTime createdDate) {
+            this.order = order;
+            this.createdDate = createdDate;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package kitchenpos.application;
+
+import kitchenpos.dao.MenuDao;
+import kitchenpos.dao.MenuGroupDao;
+import kitchenpos.dao.MenuProductDao;
+import kitchenpos.dao.ProductDao;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuProduct;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Holds the current {@link MenuCatalogSnapshot} so that catalog reads and order validation need no query.
+ * Catalog writes call {@link #changed(VersionedResource)}; the snapshot is reloaded and swapped once the write
+ * commits, and only then is the resource version bumped, so an ETag never runs ahead of the snapshot.
+ * Only writes made through this application instance are picked up.
+ */
+@Component
+public class MenuCatalog implements SmartInitializingSingleton {
+    private final MenuDao menuDao;
+    private final MenuGroupDao menuGroupDao;
+    private final MenuProductDao menuProductDao;
+    private final ProductDao productDao;
+    private final ResourceVersions resourceVersions;
+
+    private volatile MenuCatalogSnapshot snapshot;
+
+    public MenuCatalog(
+            final MenuDao menuDao,
+            final MenuGroupDao menuGroupDao,
+            final MenuProductDao menuProductDao,
+            final ProductDao productDao,
+            final ResourceVersions resourceVersions
+    ) {
+        this.menuDao = menuDao;
+        this.menuGroupDao = menuGroupDao;
+        this.menuProductDao = menuProductDao;
+        this.productDao = productDao;
+        this.resourceVersions = resourceVersions;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        reload();
+    }
+
+    public MenuCatalogSnapshot snapshot() {
+        return snapshot;
+    }
+
+    public void changed(final VersionedResource resource) {
+        AfterCommit.run(() -> reload(resource));
+    }
+
+    public synchronized void reload() {
+        final Map<Long, List<MenuProduct>> menuProductsByMenuId = menuProductDao.findAll().stream()
+                .collect(Collectors.groupingBy(MenuProduct::getMenuId));
+        final List<Menu> menus = menuDao.findAll();
+        for (final Menu menu : menus) {
+            menu.setMenuProducts(Collections.unmodifiableList(
+                    menuProductsByMenuId.getOrDefault(menu.getId(), new ArrayList<>())
+            ));
+        }
+
+        final long version = snapshot == null ? 1L : snapshot.getVersion() + 1;
+        snapshot = new MenuCatalogSnapshot(version, menus, productDao.findAll(), menuGroupDao.findAll());
+    }
+
+    private void reload(final VersionedResource resource) {
+        reload();
+        resourceVersions.increase(resource);
+    }
+}
@@ -0,0 +1,72 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuGroup;
+import kitchenpos.domain.Product;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable view of menus, menu products, products and menu groups as of one catalog version.
+ * The entities are shared between readers and must not be modified.
+ */
+public class MenuCatalogSnapshot {
+    private final long version;
+    private final List<Menu> menus;
+    private final List<Product> products;
+    private final List<MenuGroup> menuGroups;
+    private final Set<Long> menuIds;
+    private final Map<Long, List<Menu>> menusByMenuGroupId;
+
+    MenuCatalogSnapshot(
+            final long version,
+            final List<Menu> menus,
+            final List<Product> products,
+            final List<MenuGroup> menuGroups
+    ) {
+        this.version = version;
+        this.menus = Collections.unmodifiableList(menus);
+        this.products = Collections.unmodifiableList(products);
+        this.menuGroups = Collections.unmodifiableList(menuGroups);
+        this.menuIds = menus.stream()
+                .map(Menu::getId)
+                .collect(Collectors.toSet());
+        this.menusByMenuGroupId = menus.stream()
+                .collect(Collectors.groupingBy(
+                        Menu::getMenuGroupId,
+                        Collectors.collectingAndThen(Collectors.toList(), Collections::unmodifiableList)
+                ));
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public List<Menu> getMenus() {
+        return menus;
+    }
+
+    public List<Menu> getMenus(final Long menuGroupId) {
+        return menusByMenuGroupId.getOrDefault(menuGroupId, Collections.emptyList());
+    }
+
+    public List<Product> getProducts() {
+        return products;
+    }
+
+    public List<MenuGroup> getMenuGroups() {
+        return menuGroups;
+    }
+
+    public long countMenusIn(final Collection<Long> menuIds) {
+        return menuIds.stream()
+                .distinct()
+                .filter(this.menuIds::contains)
+                .count();
+    }
+}
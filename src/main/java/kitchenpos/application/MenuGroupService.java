@@ -10,17 +10,22 @@ import java.util.List;
 @Service
 public class MenuGroupService {
     private final MenuGroupDao menuGroupDao;
+    private final MenuCatalog menuCatalog;
 
-    public MenuGroupService(final MenuGroupDao menuGroupDao) {
+    public MenuGroupService(final MenuGroupDao menuGroupDao, final MenuCatalog menuCatalog) {
         this.menuGroupDao = menuGroupDao;
+        this.menuCatalog = menuCatalog;
     }
 
     @Transactional
     public MenuGroup create(final MenuGroup menuGroup) {
-        return menuGroupDao.save(menuGroup);
+        final MenuGroup savedMenuGroup = menuGroupDao.save(menuGroup);
+        menuCatalog.changed(VersionedResource.MENU_GROUPS);
+
+        return savedMenuGroup;
     }
 
     public List<MenuGroup> list() {
-        return menuGroupDao.findAll();
+        return menuCatalog.snapshot().getMenuGroups();
     }
 }
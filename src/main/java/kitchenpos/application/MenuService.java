@@ -6,14 +6,17 @@ import kitchenpos.dao.MenuProductDao;
 import kitchenpos.dao.ProductDao;
 import kitchenpos.domain.Menu;
 import kitchenpos.domain.MenuProduct;
+import kitchenpos.domain.Money;
 import kitchenpos.domain.Product;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class MenuService {
@@ -21,24 +24,27 @@ public class MenuService {
     private final MenuGroupDao menuGroupDao;
     private final MenuProductDao menuProductDao;
     private final ProductDao productDao;
+    private final MenuCatalog menuCatalog;
 
     public MenuService(
             final MenuDao menuDao,
             final MenuGroupDao menuGroupDao,
             final MenuProductDao menuProductDao,
-            final ProductDao productDao
+            final ProductDao productDao,
+            final MenuCatalog menuCatalog
     ) {
         this.menuDao = menuDao;
         this.menuGroupDao = menuGroupDao;
         this.menuProductDao = menuProductDao;
         this.productDao = productDao;
+        this.menuCatalog = menuCatalog;
     }
 
     @Transactional
     public Menu create(final Menu menu) {
-        final BigDecimal price = menu.getPrice();
+        final Money price = menu.getPrice();
 
-        if (Objects.isNull(price) || price.compareTo(BigDecimal.ZERO) < 0) {
+        if (Objects.isNull(price) || price.isNegative()) {
             throw new IllegalArgumentException();
         }
 
@@ -48,37 +54,52 @@ public class MenuService {
 
         final List<MenuProduct> menuProducts = menu.getMenuProducts();
 
-        BigDecimal sum = BigDecimal.ZERO;
+        final Map<Long, Product> products = findProducts(menuProducts);
+
+        Money sum = Money.ZERO;
         for (final MenuProduct menuProduct : menuProducts) {
-            final Product product = productDao.findById(menuProduct.getProductId())
-                    .orElseThrow(IllegalArgumentException::new);
-            sum = sum.add(product.getPrice().multiply(BigDecimal.valueOf(menuProduct.getQuantity())));
+            final Product product = products.get(menuProduct.getProductId());
+            if (Objects.isNull(product)) {
+                throw new IllegalArgumentException();
+            }
+            sum = sum.plus(product.getPrice().times(menuProduct.getQuantity()));
         }
 
-        if (price.compareTo(sum) > 0) {
+        if (price.isGreaterThan(sum)) {
             throw new IllegalArgumentException();
         }
 
         final Menu savedMenu = menuDao.save(menu);
 
         final Long menuId = savedMenu.getId();
-        final List<MenuProduct> savedMenuProducts = new ArrayList<>();
         for (final MenuProduct menuProduct : menuProducts) {
             menuProduct.setMenuId(menuId);
-            savedMenuProducts.add(menuProductDao.save(menuProduct));
         }
-        savedMenu.setMenuProducts(savedMenuProducts);
+        savedMenu.setMenuProducts(menuProductDao.saveAll(menuProducts));
+        menuCatalog.changed(VersionedResource.MENUS);
 
         return savedMenu;
     }
 
     public List<Menu> list() {
-        final List<Menu> menus = menuDao.findAll();
+        return menuCatalog.snapshot().getMenus();
+    }
+
+    public List<Menu> list(final Long menuGroupId) {
+        return menuCatalog.snapshot().getMenus(menuGroupId);
+    }
+
+    private Map<Long, Product> findProducts(final List<MenuProduct> menuProducts) {
+        final List<Long> productIds = menuProducts.stream()
+                .map(MenuProduct::getProductId)
+                .distinct()
+                .collect(Collectors.toList());
 
-        for (final Menu menu : menus) {
-            menu.setMenuProducts(menuProductDao.findAllByMenuId(menu.getId()));
+        if (productIds.isEmpty()) {
+            return Collections.emptyMap();
         }
 
-        return menus;
+        return productDao.findAllByIdInForUpdate(productIds).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
     }
 }
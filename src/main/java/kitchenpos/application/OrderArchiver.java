@@ -0,0 +1,58 @@
+package kitchenpos.application;
+
+import kitchenpos.dao.OrderArchiveDao;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Moves completed orders past the configured age, with their line items, into the history tables.
+ * Each batch commits on its own so that no run holds locks on the live tables for long.
+ * Archived orders are left out of GET /api/orders and /api/orders/export unless {@code includeHistory=true} is given;
+ * PUT /api/orders/{orderId}/order-status and PUT /api/orders/order-status see live orders only and treat an
+ * archived order like an unknown one.
+ */
+@Component
+@ConditionalOnProperty(name = "kitchenpos.order-archive.enabled", havingValue = "true", matchIfMissing = true)
+public class OrderArchiver {
+    private final OrderArchiveDao orderArchiveDao;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration minimumAge;
+    private final int batchSize;
+
+    public OrderArchiver(
+            final OrderArchiveDao orderArchiveDao,
+            final PlatformTransactionManager transactionManager,
+            @Value("${kitchenpos.order-archive.minimum-age-days:30}") final long minimumAgeDays,
+            @Value("${kitchenpos.order-archive.batch-size:500}") final int batchSize
+    ) {
+        this.orderArchiveDao = orderArchiveDao;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.minimumAge = Duration.ofDays(minimumAgeDays);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${kitchenpos.order-archive.fixed-delay-millis:60000}")
+    public void archive() {
+        final LocalDateTime orderedBefore = LocalDateTime.now().minus(minimumAge);
+        int archived;
+        do {
+            archived = transactionTemplate.execute(status -> archiveBatch(orderedBefore));
+        } while (archived == batchSize);
+    }
+
+    private int archiveBatch(final LocalDateTime orderedBefore) {
+        final List<Long> orderIds = orderArchiveDao.findArchivableOrderIds(orderedBefore, batchSize);
+        if (!orderIds.isEmpty()) {
+            orderArchiveDao.moveToHistory(orderIds);
+        }
+        return orderIds.size();
+    }
+}
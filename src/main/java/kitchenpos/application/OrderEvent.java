@@ -0,0 +1,21 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Order;
+
+public class OrderEvent {
+    private final OrderEventType type;
+    private final Order order;
+
+    public OrderEvent(final OrderEventType type, final Order order) {
+        this.type = type;
+        this.order = order;
+    }
+
+    public OrderEventType getType() {
+        return type;
+    }
+
+    public Order getOrder() {
+        return order;
+    }
+}
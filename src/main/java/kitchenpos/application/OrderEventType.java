@@ -0,0 +1,16 @@
+package kitchenpos.application;
+
+public enum OrderEventType {
+    ORDER_CREATED("order-created"),
+    ORDER_STATUS_CHANGED("order-status-changed");
+
+    private final String eventName;
+
+    OrderEventType(final String eventName) {
+        this.eventName = eventName;
+    }
+
+    public String getEventName() {
+        return eventName;
+    }
+}
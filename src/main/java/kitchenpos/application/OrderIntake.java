@@ -0,0 +1,16 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Order;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface OrderIntake {
+    default CompletableFuture<Order> submit(Order order) {
+        return submit(order, null);
+    }
+
+    /**
+     * The idempotency key, if given, is stored in the transaction that creates the order.
+     */
+    CompletableFuture<Order> submit(Order order, String idempotencyKey);
+}
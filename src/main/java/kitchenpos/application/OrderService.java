@@ -1,44 +1,78 @@
 package kitchenpos.application;
 
-import kitchenpos.dao.MenuDao;
+import kitchenpos.dao.IdempotencyKeyDao;
 import kitchenpos.dao.OrderDao;
 import kitchenpos.dao.OrderLineItemDao;
 import kitchenpos.dao.OrderTableDao;
+import kitchenpos.domain.IdempotencyKey;
 import kitchenpos.domain.Order;
 import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderSearchCondition;
+import kitchenpos.domain.OrderSortKey;
 import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderStatusChange;
+import kitchenpos.domain.OrderStatusChangeResult;
 import kitchenpos.domain.OrderTable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 public class OrderService {
-    private final MenuDao menuDao;
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    private final MenuCatalog menuCatalog;
     private final OrderDao orderDao;
     private final OrderLineItemDao orderLineItemDao;
     private final OrderTableDao orderTableDao;
+    private final IdempotencyKeyDao idempotencyKeyDao;
+    private final ActiveOrderIndex activeOrderIndex;
+    private final SalesReportService salesReportService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public OrderService(
-            final MenuDao menuDao,
+            final MenuCatalog menuCatalog,
             final OrderDao orderDao,
             final OrderLineItemDao orderLineItemDao,
-            final OrderTableDao orderTableDao
+            final OrderTableDao orderTableDao,
+            final IdempotencyKeyDao idempotencyKeyDao,
+            final ActiveOrderIndex activeOrderIndex,
+            final SalesReportService salesReportService,
+            final ApplicationEventPublisher eventPublisher
     ) {
-        this.menuDao = menuDao;
+        this.menuCatalog = menuCatalog;
         this.orderDao = orderDao;
         this.orderLineItemDao = orderLineItemDao;
         this.orderTableDao = orderTableDao;
+        this.idempotencyKeyDao = idempotencyKeyDao;
+        this.activeOrderIndex = activeOrderIndex;
+        this.salesReportService = salesReportService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
     public Order create(final Order order) {
+        return create(order, null);
+    }
+
+    /**
+     * Stores the idempotency key, if given, in the same transaction, so an order is never committed without its key.
+     */
+    @Transactional
+    public Order create(final Order order, final String idempotencyKey) {
         final List<OrderLineItem> orderLineItems = order.getOrderLineItems();
 
         if (CollectionUtils.isEmpty(orderLineItems)) {
@@ -49,7 +83,7 @@ public class OrderService {
                 .map(OrderLineItem::getMenuId)
                 .collect(Collectors.toList());
 
-        if (orderLineItems.size() != menuDao.countByIdIn(menuIds)) {
+        if (orderLineItems.size() != menuCatalog.snapshot().countMenusIn(menuIds)) {
             throw new IllegalArgumentException();
         }
 
@@ -67,29 +101,72 @@ public class OrderService {
         final Order savedOrder = orderDao.save(order);
 
         final Long orderId = savedOrder.getId();
-        final List<OrderLineItem> savedOrderLineItems = new ArrayList<>();
         for (final OrderLineItem orderLineItem : orderLineItems) {
             orderLineItem.setOrderId(orderId);
-            savedOrderLineItems.add(orderLineItemDao.save(orderLineItem));
         }
-        savedOrder.setOrderLineItems(savedOrderLineItems);
+        savedOrder.setOrderLineItems(orderLineItemDao.saveAll(orderLineItems));
+        if (Objects.nonNull(idempotencyKey)) {
+            idempotencyKeyDao.save(idempotencyKey(idempotencyKey, savedOrder));
+        }
+        activeOrderIndex.opened(savedOrder.getOrderTableId());
+        eventPublisher.publishEvent(new OrderEvent(OrderEventType.ORDER_CREATED, savedOrder));
+
+        return savedOrder;
+    }
+
+    public Order find(final Long orderId) {
+        final Order savedOrder = orderDao.findById(orderId)
+                .orElseThrow(IllegalArgumentException::new);
+
+        savedOrder.setOrderLineItems(orderLineItemDao.findAllByOrderId(orderId));
 
         return savedOrder;
     }
 
     public List<Order> list() {
-        final List<Order> orders = orderDao.findAll();
+        return withOrderLineItems(orderDao.findAll());
+    }
 
-        for (final Order order : orders) {
-            order.setOrderLineItems(orderLineItemDao.findAllByOrderId(order.getId()));
+    /**
+     * Returns one page, {@value #DEFAULT_PAGE_SIZE} orders unless a size is given.
+     * When sorting by ordered time, the next page starts after the last order's orderedTime and id.
+     */
+    public List<Order> list(final OrderSearchCondition condition) {
+        final Integer size = condition.getSize();
+
+        if (Objects.nonNull(size) && (size <= 0 || size > MAX_PAGE_SIZE)) {
+            throw new IllegalArgumentException();
         }
 
-        return orders;
+        if (condition.getSort() == OrderSortKey.ORDERED_TIME
+                && Objects.isNull(condition.getCursor()) != Objects.isNull(condition.getCursorOrderedTime())) {
+            throw new IllegalArgumentException();
+        }
+
+        if (Objects.isNull(size)) {
+            condition.setSize(DEFAULT_PAGE_SIZE);
+        }
+
+        final List<Order> orders = orderDao.findAllByCondition(condition);
+
+        if (condition.isIncludeHistory()) {
+            return withOrderLineItemsIncludingHistory(orders);
+        }
+
+        return withOrderLineItems(orders);
+    }
+
+    /**
+     * Streams every order with its order line items; orders moved to history by the archiver are included only on request.
+     */
+    public void export(final boolean includeHistory, final Consumer<Order> consumer) {
+        orderDao.forEachWithOrderLineItems(includeHistory, consumer);
     }
 
     @Transactional
     public Order changeOrderStatus(final Long orderId, final Order order) {
-        final Order savedOrder = orderDao.findById(orderId)
+        final Order savedOrder = orderDao.findAllByIdInForUpdate(Collections.singletonList(orderId)).stream()
+                .findFirst()
                 .orElseThrow(IllegalArgumentException::new);
 
         if (Objects.equals(OrderStatus.COMPLETION.name(), savedOrder.getOrderStatus())) {
@@ -103,6 +180,104 @@ public class OrderService {
 
         savedOrder.setOrderLineItems(orderLineItemDao.findAllByOrderId(orderId));
 
+        if (orderStatus == OrderStatus.COMPLETION) {
+            activeOrderIndex.closed(savedOrder.getOrderTableId());
+            salesReportService.record(Collections.singletonList(savedOrder));
+        }
+        eventPublisher.publishEvent(new OrderEvent(OrderEventType.ORDER_STATUS_CHANGED, savedOrder));
+
         return savedOrder;
     }
+
+    @Transactional
+    public List<OrderStatusChangeResult> changeOrderStatuses(final OrderStatusChange orderStatusChange) {
+        final List<Long> orderIds = orderStatusChange.getOrderIds();
+
+        if (CollectionUtils.isEmpty(orderIds)) {
+            throw new IllegalArgumentException();
+        }
+
+        final OrderStatus orderStatus = OrderStatus.valueOf(orderStatusChange.getOrderStatus());
+
+        final Map<Long, Order> savedOrders = orderDao.findAllByIdInForUpdate(orderIds).stream()
+                .collect(Collectors.toMap(Order::getId, Function.identity()));
+
+        final List<OrderStatusChangeResult> results = new ArrayList<>();
+        final List<Order> changedOrders = new ArrayList<>();
+        for (final Long orderId : new LinkedHashSet<>(orderIds)) {
+            final Order savedOrder = savedOrders.get(orderId);
+            if (Objects.isNull(savedOrder)) {
+                results.add(new OrderStatusChangeResult(orderId, OrderStatusChangeResult.Outcome.NOT_FOUND));
+                continue;
+            }
+            if (Objects.equals(OrderStatus.COMPLETION.name(), savedOrder.getOrderStatus())) {
+                results.add(new OrderStatusChangeResult(orderId, OrderStatusChangeResult.Outcome.ALREADY_COMPLETED));
+                continue;
+            }
+            savedOrder.setOrderStatus(orderStatus.name());
+            changedOrders.add(savedOrder);
+            results.add(new OrderStatusChangeResult(orderId, OrderStatusChangeResult.Outcome.CHANGED));
+        }
+
+        if (changedOrders.isEmpty()) {
+            return results;
+        }
+
+        orderDao.updateOrderStatusByIdIn(
+                changedOrders.stream().map(Order::getId).collect(Collectors.toList()),
+                orderStatus.name()
+        );
+
+        withOrderLineItems(changedOrders);
+
+        if (orderStatus == OrderStatus.COMPLETION) {
+            changedOrders.forEach(changedOrder -> activeOrderIndex.closed(changedOrder.getOrderTableId()));
+            salesReportService.record(changedOrders);
+        }
+
+        for (final Order changedOrder : changedOrders) {
+            eventPublisher.publishEvent(new OrderEvent(OrderEventType.ORDER_STATUS_CHANGED, changedOrder));
+        }
+
+        return results;
+    }
+
+    private IdempotencyKey idempotencyKey(final String key, final Order savedOrder) {
+        final IdempotencyKey idempotencyKey = new IdempotencyKey();
+        idempotencyKey.setKey(key);
+        idempotencyKey.setOrderId(savedOrder.getId());
+        idempotencyKey.setCreatedDate(savedOrder.getOrderedTime());
+        return idempotencyKey;
+    }
+
+    private List<Order> withOrderLineItems(final List<Order> orders) {
+        return withOrderLineItems(orders, orderLineItemDao::findAllByOrderIdIn);
+    }
+
+    private List<Order> withOrderLineItemsIncludingHistory(final List<Order> orders) {
+        return withOrderLineItems(orders, orderLineItemDao::findAllByOrderIdInIncludingHistory);
+    }
+
+    private List<Order> withOrderLineItems(
+            final List<Order> orders,
+            final Function<List<Long>, List<OrderLineItem>> orderLineItemsLoader
+    ) {
+        if (orders.isEmpty()) {
+            return orders;
+        }
+
+        final List<Long> orderIds = orders.stream()
+                .map(Order::getId)
+                .collect(Collectors.toList());
+
+        final Map<Long, List<OrderLineItem>> orderLineItemsByOrderId = orderLineItemsLoader.apply(orderIds)
+                .stream()
+                .collect(Collectors.groupingBy(OrderLineItem::getOrderId));
+
+        for (final Order order : orders) {
+            order.setOrderLineItems(orderLineItemsByOrderId.getOrDefault(order.getId(), new ArrayList<>()));
+        }
+
+        return orders;
+    }
 }
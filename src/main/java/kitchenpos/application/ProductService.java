@@ -1,34 +1,117 @@
 package kitchenpos.application;
 
+import kitchenpos.dao.MenuDao;
+import kitchenpos.dao.MenuProductDao;
 import kitchenpos.dao.ProductDao;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuProduct;
+import kitchenpos.domain.Money;
 import kitchenpos.domain.Product;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class ProductService {
+    private final MenuDao menuDao;
+    private final MenuProductDao menuProductDao;
     private final ProductDao productDao;
+    private final MenuCatalog menuCatalog;
 
-    public ProductService(final ProductDao productDao) {
+    public ProductService(
+            final MenuDao menuDao,
+            final MenuProductDao menuProductDao,
+            final ProductDao productDao,
+            final MenuCatalog menuCatalog
+    ) {
+        this.menuDao = menuDao;
+        this.menuProductDao = menuProductDao;
         this.productDao = productDao;
+        this.menuCatalog = menuCatalog;
     }
 
     @Transactional
     public Product create(final Product product) {
-        final BigDecimal price = product.getPrice();
+        final Money price = product.getPrice();
 
-        if (Objects.isNull(price) || price.compareTo(BigDecimal.ZERO) < 0) {
+        if (Objects.isNull(price) || price.isNegative()) {
             throw new IllegalArgumentException();
         }
 
-        return productDao.save(product);
+        final Product savedProduct = productDao.save(product);
+        menuCatalog.changed(VersionedResource.PRODUCTS);
+
+        return savedProduct;
     }
 
     public List<Product> list() {
-        return productDao.findAll();
+        return menuCatalog.snapshot().getProducts();
+    }
+
+    @Transactional
+    public Product changePrice(final Long productId, final Product product) {
+        final Money price = product.getPrice();
+
+        if (Objects.isNull(price) || price.isNegative()) {
+            throw new IllegalArgumentException();
+        }
+
+        final Product savedProduct = productDao.findAllByIdInForUpdate(Collections.singletonList(productId)).stream()
+                .findFirst()
+                .orElseThrow(IllegalArgumentException::new);
+        savedProduct.setPrice(price);
+
+        validateMenuPrices(savedProduct);
+
+        productDao.save(savedProduct);
+        menuCatalog.changed(VersionedResource.PRODUCTS);
+
+        return savedProduct;
+    }
+
+    /**
+     * Re-checks that no menu containing the product costs more than the sum of its products.
+     * Only the menus found through the product_id index are locked and recalculated.
+     */
+    private void validateMenuPrices(final Product changedProduct) {
+        final List<Long> menuIds = menuProductDao.findAllByProductId(changedProduct.getId()).stream()
+                .map(MenuProduct::getMenuId)
+                .distinct()
+                .collect(Collectors.toList());
+
+        if (menuIds.isEmpty()) {
+            return;
+        }
+
+        final List<Menu> menus = menuDao.findAllByIdInForUpdate(menuIds);
+        final Map<Long, List<MenuProduct>> menuProductsByMenuId = menuProductDao.findAllByMenuIdIn(menuIds).stream()
+                .collect(Collectors.groupingBy(MenuProduct::getMenuId));
+
+        final List<Long> productIds = menuProductsByMenuId.values().stream()
+                .flatMap(List::stream)
+                .map(MenuProduct::getProductId)
+                .distinct()
+                .collect(Collectors.toList());
+        final Map<Long, Product> products = productDao.findAllByIdIn(productIds).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        products.put(changedProduct.getId(), changedProduct);
+
+        for (final Menu menu : menus) {
+            Money sum = Money.ZERO;
+            for (final MenuProduct menuProduct : menuProductsByMenuId.get(menu.getId())) {
+                final Product product = products.get(menuProduct.getProductId());
+                sum = sum.plus(product.getPrice().times(menuProduct.getQuantity()));
+            }
+
+            if (menu.getPrice().isGreaterThan(sum)) {
+                throw new IllegalArgumentException();
+            }
+        }
     }
 }
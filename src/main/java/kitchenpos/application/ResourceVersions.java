@@ -0,0 +1,36 @@
+package kitchenpos.application;
+
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Version counter per polled resource, used as its ETag.
+ * Counters are bumped only after the changing transaction commits, and the ETag carries the startup time
+ * so that tags handed out before a restart never match.
+ */
+@Component
+public class ResourceVersions {
+    private final long epoch = System.currentTimeMillis();
+    private final Map<VersionedResource, AtomicLong> versions = new EnumMap<>(VersionedResource.class);
+
+    public ResourceVersions() {
+        for (final VersionedResource resource : VersionedResource.values()) {
+            versions.put(resource, new AtomicLong());
+        }
+    }
+
+    public String eTag(final VersionedResource resource) {
+        return resource.name().toLowerCase() + "-" + epoch + "-" + versions.get(resource).get();
+    }
+
+    public void changed(final VersionedResource resource) {
+        AfterCommit.run(() -> increase(resource));
+    }
+
+    void increase(final VersionedResource resource) {
+        versions.get(resource).incrementAndGet();
+    }
+}
@@ -0,0 +1,93 @@
+package kitchenpos.application;
+
+import kitchenpos.dao.MenuDao;
+import kitchenpos.dao.SalesRollupDao;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.SalesReportGroup;
+import kitchenpos.domain.SalesRollup;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class SalesReportService {
+    private final MenuDao menuDao;
+    private final SalesRollupDao salesRollupDao;
+
+    public SalesReportService(final MenuDao menuDao, final SalesRollupDao salesRollupDao) {
+        this.menuDao = menuDao;
+        this.salesRollupDao = salesRollupDao;
+    }
+
+    @Transactional
+    public void record(final List<Order> completedOrders) {
+        final List<Long> menuIds = completedOrders.stream()
+                .flatMap(order -> order.getOrderLineItems().stream())
+                .map(OrderLineItem::getMenuId)
+                .distinct()
+                .collect(Collectors.toList());
+
+        if (menuIds.isEmpty()) {
+            return;
+        }
+
+        final Map<Long, Menu> menus = menuDao.findAllByIdIn(menuIds).stream()
+                .collect(Collectors.toMap(Menu::getId, Function.identity()));
+
+        final Map<List<Object>, SalesRollup> deltas = new LinkedHashMap<>();
+        for (final Order order : completedOrders) {
+            final LocalDateTime salesHour = order.getOrderedTime().truncatedTo(ChronoUnit.HOURS);
+            for (final OrderLineItem orderLineItem : order.getOrderLineItems()) {
+                final Menu menu = menus.get(orderLineItem.getMenuId());
+                final SalesRollup delta = deltas.computeIfAbsent(
+                        Arrays.asList(menu.getId(), salesHour),
+                        key -> emptyRollup(menu, salesHour)
+                );
+                delta.setQuantity(delta.getQuantity() + orderLineItem.getQuantity());
+                delta.setRevenue(delta.getRevenue()
+                        .add(menu.getPrice().times(orderLineItem.getQuantity()).toBigDecimal()));
+            }
+        }
+
+        salesRollupDao.addAll(new ArrayList<>(deltas.values()));
+    }
+
+    public List<SalesRollup> report(final LocalDateTime from, final LocalDateTime to, final SalesReportGroup group) {
+        if (Objects.isNull(from) || Objects.isNull(to) || !from.isBefore(to)) {
+            throw new IllegalArgumentException();
+        }
+
+        switch (group) {
+            case MENU:
+                return salesRollupDao.sumByMenu(from, to);
+            case MENU_GROUP:
+                return salesRollupDao.sumByMenuGroup(from, to);
+            case HOUR:
+                return salesRollupDao.sumByHour(from, to);
+            default:
+                throw new IllegalArgumentException();
+        }
+    }
+
+    private SalesRollup emptyRollup(final Menu menu, final LocalDateTime salesHour) {
+        final SalesRollup salesRollup = new SalesRollup();
+        salesRollup.setMenuId(menu.getId());
+        salesRollup.setMenuGroupId(menu.getMenuGroupId());
+        salesRollup.setSalesHour(salesHour);
+        salesRollup.setRevenue(BigDecimal.ZERO);
+        return salesRollup;
+    }
+}
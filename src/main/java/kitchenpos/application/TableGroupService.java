@@ -1,9 +1,7 @@
 package kitchenpos.application;
 
-import kitchenpos.dao.OrderDao;
 import kitchenpos.dao.OrderTableDao;
 import kitchenpos.dao.TableGroupDao;
-import kitchenpos.domain.OrderStatus;
 import kitchenpos.domain.OrderTable;
 import kitchenpos.domain.TableGroup;
 import org.springframework.stereotype.Service;
@@ -11,21 +9,27 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
 
 import java.time.LocalDateTime;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
 public class TableGroupService {
-    private final OrderDao orderDao;
+    private final ActiveOrderIndex activeOrderIndex;
     private final OrderTableDao orderTableDao;
     private final TableGroupDao tableGroupDao;
-
-    public TableGroupService(final OrderDao orderDao, final OrderTableDao orderTableDao, final TableGroupDao tableGroupDao) {
-        this.orderDao = orderDao;
+    private final ResourceVersions resourceVersions;
+
+    public TableGroupService(
+            final ActiveOrderIndex activeOrderIndex,
+            final OrderTableDao orderTableDao,
+            final TableGroupDao tableGroupDao,
+            final ResourceVersions resourceVersions
+    ) {
+        this.activeOrderIndex = activeOrderIndex;
         this.orderTableDao = orderTableDao;
         this.tableGroupDao = tableGroupDao;
+        this.resourceVersions = resourceVersions;
     }
 
     @Transactional
@@ -63,6 +67,7 @@ public class TableGroupService {
             orderTableDao.save(savedOrderTable);
         }
         savedTableGroup.setOrderTables(savedOrderTables);
+        resourceVersions.changed(VersionedResource.TABLES);
 
         return savedTableGroup;
     }
@@ -75,8 +80,7 @@ public class TableGroupService {
                 .map(OrderTable::getId)
                 .collect(Collectors.toList());
 
-        if (orderDao.existsByOrderTableIdInAndOrderStatusIn(
-                orderTableIds, Arrays.asList(OrderStatus.COOKING.name(), OrderStatus.MEAL.name()))) {
+        if (activeOrderIndex.hasActiveOrder(orderTableIds)) {
             throw new IllegalArgumentException();
         }
 
@@ -84,5 +88,6 @@ public class TableGroupService {
             orderTable.setTableGroupId(null);
             orderTableDao.save(orderTable);
         }
+        resourceVersions.changed(VersionedResource.TABLES);
     }
 }
@@ -1,29 +1,33 @@
 package kitchenpos.application;
 
-import kitchenpos.dao.OrderDao;
 import kitchenpos.dao.OrderTableDao;
-import kitchenpos.domain.OrderStatus;
 import kitchenpos.domain.OrderTable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
 @Service
 public class TableService {
-    private final OrderDao orderDao;
+    private final ActiveOrderIndex activeOrderIndex;
     private final OrderTableDao orderTableDao;
-
-    public TableService(final OrderDao orderDao, final OrderTableDao orderTableDao) {
-        this.orderDao = orderDao;
+    private final ResourceVersions resourceVersions;
+
+    public TableService(
+            final ActiveOrderIndex activeOrderIndex,
+            final OrderTableDao orderTableDao,
+            final ResourceVersions resourceVersions
+    ) {
+        this.activeOrderIndex = activeOrderIndex;
         this.orderTableDao = orderTableDao;
+        this.resourceVersions = resourceVersions;
     }
 
     @Transactional
     public OrderTable create(final OrderTable orderTable) {
         orderTable.setTableGroupId(null);
+        resourceVersions.changed(VersionedResource.TABLES);
 
         return orderTableDao.save(orderTable);
     }
@@ -41,12 +45,12 @@ public class TableService {
             throw new IllegalArgumentException();
         }
 
-        if (orderDao.existsByOrderTableIdAndOrderStatusIn(
-                orderTableId, Arrays.asList(OrderStatus.COOKING.name(), OrderStatus.MEAL.name()))) {
+        if (activeOrderIndex.hasActiveOrder(orderTableId)) {
             throw new IllegalArgumentException();
         }
 
         savedOrderTable.setEmpty(orderTable.isEmpty());
+        resourceVersions.changed(VersionedResource.TABLES);
 
         return orderTableDao.save(savedOrderTable);
     }
@@ -67,6 +71,7 @@ public class TableService {
         }
 
         savedOrderTable.setNumberOfGuests(numberOfGuests);
+        resourceVersions.changed(VersionedResource.TABLES);
 
         return orderTableDao.save(savedOrderTable);
     }
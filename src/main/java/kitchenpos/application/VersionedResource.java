@@ -0,0 +1,5 @@
+package kitchenpos.application;
+
+public enum VersionedResource {
+    PRODUCTS, MENUS, MENU_GROUPS, TABLES
+}
@@ -0,0 +1,94 @@
+package kitchenpos.dao;
+
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Common insert and lookup plumbing for the JDBC DAOs.
+ * Inserts run a fixed positional statement bound by hand and build the saved entity from the generated key,
+ * so saving never reflects over the entity or reads the row back.
+ */
+abstract class AbstractJdbcTemplateDao<T> {
+    protected final NamedParameterJdbcTemplate jdbcTemplate;
+    protected final RowMapper<T> rowMapper = (resultSet, rowNumber) -> toEntity(resultSet);
+
+    private final String insertSql;
+    private final String[] keyColumnNames;
+
+    protected AbstractJdbcTemplateDao(
+            final DataSource dataSource,
+            final String tableName,
+            final String keyColumnName,
+            final String... insertColumnNames
+    ) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        this.insertSql = "INSERT INTO " + tableName + " (" + String.join(", ", insertColumnNames) + ")" +
+                " VALUES (" + String.join(", ", Collections.nCopies(insertColumnNames.length, "?")) + ")";
+        this.keyColumnNames = new String[]{keyColumnName};
+    }
+
+    protected T insert(final T entity) {
+        return insertAll(Collections.singletonList(entity)).get(0);
+    }
+
+    protected List<T> insertAll(final List<T> entities) {
+        if (entities.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return jdbcTemplate.getJdbcOperations().execute((ConnectionCallback<List<T>>) connection -> {
+            try (final PreparedStatement statement = connection.prepareStatement(insertSql, keyColumnNames)) {
+                if (entities.size() == 1) {
+                    bindInsert(statement, entities.get(0));
+                    statement.executeUpdate();
+                } else {
+                    for (final T entity : entities) {
+                        bindInsert(statement, entity);
+                        statement.addBatch();
+                    }
+                    statement.executeBatch();
+                }
+                return toSavedEntities(entities, statement);
+            }
+        });
+    }
+
+    protected Optional<T> selectOne(final String sql, final SqlParameterSource parameters) {
+        try {
+            return Optional.ofNullable(jdbcTemplate.queryForObject(sql, parameters, rowMapper));
+        } catch (final EmptyResultDataAccessException e) {
+            return Optional.empty();
+        }
+    }
+
+    protected abstract void bindInsert(PreparedStatement statement, T entity) throws SQLException;
+
+    protected abstract T toSavedEntity(T entity, long key);
+
+    protected abstract T toEntity(ResultSet resultSet) throws SQLException;
+
+    private List<T> toSavedEntities(final List<T> entities, final PreparedStatement statement) throws SQLException {
+        final List<T> savedEntities = new ArrayList<>(entities.size());
+        try (final ResultSet generatedKeys = statement.getGeneratedKeys()) {
+            for (final T entity : entities) {
+                if (!generatedKeys.next()) {
+                    throw new IncorrectResultSizeDataAccessException(entities.size(), savedEntities.size());
+                }
+                savedEntities.add(toSavedEntity(entity, generatedKeys.getLong(1)));
+            }
+        }
+        return savedEntities;
+    }
+}
@@ -0,0 +1,13 @@
+package kitchenpos.dao;
+
+import kitchenpos.domain.IdempotencyKey;
+
+import java.util.Optional;
+
+public interface IdempotencyKeyDao {
+    IdempotencyKey save(IdempotencyKey entity);
+
+    Optional<IdempotencyKey> findById(String key);
+
+    void deleteById(String key);
+}
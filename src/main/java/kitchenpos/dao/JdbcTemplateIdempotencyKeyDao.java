@@ -0,0 +1,64 @@
+package kitchenpos.dao;
+
+import kitchenpos.domain.IdempotencyKey;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public class JdbcTemplateIdempotencyKeyDao implements IdempotencyKeyDao {
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public JdbcTemplateIdempotencyKeyDao(final DataSource dataSource) {
+        jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+    }
+
+    @Override
+    public IdempotencyKey save(final IdempotencyKey entity) {
+        final String sql = "INSERT INTO idempotency_key (idempotency_key, order_id, created_date)" +
+                " VALUES (:key, :orderId, :createdDate)";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("key", entity.getKey())
+                .addValue("orderId", entity.getOrderId())
+                .addValue("createdDate", entity.getCreatedDate());
+        jdbcTemplate.update(sql, parameters);
+        return entity;
+    }
+
+    @Override
+    public Optional<IdempotencyKey> findById(final String key) {
+        final String sql = "SELECT idempotency_key, order_id, created_date FROM idempotency_key" +
+                " WHERE idempotency_key = (:key)";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("key", key);
+        try {
+            return Optional.of(jdbcTemplate.queryForObject(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet)));
+        } catch (final EmptyResultDataAccessException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void deleteById(final String key) {
+        final String sql = "DELETE FROM idempotency_key WHERE idempotency_key = (:key)";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("key", key);
+        jdbcTemplate.update(sql, parameters);
+    }
+
+    private IdempotencyKey toEntity(final ResultSet resultSet) throws SQLException {
+        final IdempotencyKey entity = new IdempotencyKey();
+        entity.setKey(resultSet.getString("idempotency_key"));
+        entity.setOrderId(resultSet.getLong("order_id"));
+        entity.setCreatedDate(resultSet.getObject("created_date", LocalDateTime.class));
+        return entity;
+    }
+}
@@ -1,78 +1,94 @@
 package kitchenpos.dao;
 
 import kitchenpos.domain.Menu;
-import org.springframework.dao.EmptyResultDataAccessException;
-import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
+import kitchenpos.domain.Money;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
-import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
-import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
 import org.springframework.stereotype.Repository;
 
 import javax.sql.DataSource;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public class JdbcTemplateMenuDao implements MenuDao {
+public class JdbcTemplateMenuDao extends AbstractJdbcTemplateDao<Menu> implements MenuDao {
     private static final String TABLE_NAME = "menu";
     private static final String KEY_COLUMN_NAME = "id";
-
-    private final NamedParameterJdbcTemplate jdbcTemplate;
-    private final SimpleJdbcInsert jdbcInsert;
+    private static final String SELECT_BY_ID_SQL = "SELECT id, name, price, menu_group_id FROM menu WHERE id = (:id)";
+    private static final String SELECT_ALL_SQL = "SELECT id, name, price, menu_group_id FROM menu";
+    private static final String SELECT_BY_ID_IN_SQL =
+            "SELECT id, name, price, menu_group_id FROM menu WHERE id IN (:ids)";
+    private static final String SELECT_BY_ID_IN_FOR_UPDATE_SQL = SELECT_BY_ID_IN_SQL + " FOR UPDATE";
+    private static final String COUNT_BY_ID_IN_SQL = "SELECT COUNT(*) FROM menu WHERE id IN (:ids)";
 
     public JdbcTemplateMenuDao(final DataSource dataSource) {
-        jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
-        jdbcInsert = new SimpleJdbcInsert(dataSource)
-                .withTableName(TABLE_NAME)
-                .usingGeneratedKeyColumns(KEY_COLUMN_NAME)
-        ;
+        super(dataSource, TABLE_NAME, KEY_COLUMN_NAME, "name", "price", "menu_group_id");
     }
 
     @Override
     public Menu save(final Menu entity) {
-        final SqlParameterSource parameters = new BeanPropertySqlParameterSource(entity);
-        final Number key = jdbcInsert.executeAndReturnKey(parameters);
-        return select(key.longValue());
+        return insert(entity);
     }
 
     @Override
     public Optional<Menu> findById(final Long id) {
-        try {
-            return Optional.of(select(id));
-        } catch (final EmptyResultDataAccessException e) {
-            return Optional.empty();
-        }
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("id", id);
+        return selectOne(SELECT_BY_ID_SQL, parameters);
     }
 
     @Override
     public List<Menu> findAll() {
-        final String sql = "SELECT id, name, price, menu_group_id FROM menu ";
-        return jdbcTemplate.query(sql, (resultSet, rowNumber) -> toEntity(resultSet));
+        return jdbcTemplate.query(SELECT_ALL_SQL, rowMapper);
     }
 
     @Override
-    public long countByIdIn(final List<Long> ids) {
-        final String sql = "SELECT COUNT(*) FROM menu WHERE id IN (:ids)";
+    public List<Menu> findAllByIdIn(final List<Long> ids) {
         final SqlParameterSource parameters = new MapSqlParameterSource()
                 .addValue("ids", ids);
-        return jdbcTemplate.queryForObject(sql, parameters, Long.class);
+        return jdbcTemplate.query(SELECT_BY_ID_IN_SQL, parameters, rowMapper);
     }
 
-    private Menu select(final Long id) {
-        final String sql = "SELECT id, name, price, menu_group_id FROM menu WHERE id = (:id)";
+    @Override
+    public List<Menu> findAllByIdInForUpdate(final List<Long> ids) {
         final SqlParameterSource parameters = new MapSqlParameterSource()
-                .addValue("id", id);
-        return jdbcTemplate.queryForObject(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet));
+                .addValue("ids", ids);
+        return jdbcTemplate.query(SELECT_BY_ID_IN_FOR_UPDATE_SQL, parameters, rowMapper);
+    }
+
+    @Override
+    public long countByIdIn(final List<Long> ids) {
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("ids", ids);
+        return jdbcTemplate.queryForObject(COUNT_BY_ID_IN_SQL, parameters, Long.class);
+    }
+
+    @Override
+    protected void bindInsert(final PreparedStatement statement, final Menu entity) throws SQLException {
+        statement.setString(1, entity.getName());
+        statement.setBigDecimal(2, entity.getPrice().toBigDecimal());
+        statement.setLong(3, entity.getMenuGroupId());
     }
 
-    private Menu toEntity(final ResultSet resultSet) throws SQLException {
+    @Override
+    protected Menu toSavedEntity(final Menu entity, final long key) {
+        final Menu savedEntity = new Menu();
+        savedEntity.setId(key);
+        savedEntity.setName(entity.getName());
+        savedEntity.setPrice(entity.getPrice());
+        savedEntity.setMenuGroupId(entity.getMenuGroupId());
+        return savedEntity;
+    }
+
+    @Override
+    protected Menu toEntity(final ResultSet resultSet) throws SQLException {
         final Menu entity = new Menu();
-        entity.setId(resultSet.getLong("id"));
+        entity.setId(resultSet.getLong(KEY_COLUMN_NAME));
         entity.setName(resultSet.getString("name"));
-        entity.setPrice(resultSet.getBigDecimal("price"));
+        entity.setPrice(Money.from(resultSet.getBigDecimal("price")));
         entity.setMenuGroupId(resultSet.getLong("menu_group_id"));
         return entity;
     }
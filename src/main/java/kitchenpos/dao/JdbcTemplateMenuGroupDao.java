@@ -1,76 +1,71 @@
 package kitchenpos.dao;
 
 import kitchenpos.domain.MenuGroup;
-import org.springframework.dao.EmptyResultDataAccessException;
-import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
-import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
-import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
 import org.springframework.stereotype.Repository;
 
 import javax.sql.DataSource;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public class JdbcTemplateMenuGroupDao implements MenuGroupDao {
+public class JdbcTemplateMenuGroupDao extends AbstractJdbcTemplateDao<MenuGroup> implements MenuGroupDao {
     private static final String TABLE_NAME = "menu_group";
     private static final String KEY_COLUMN_NAME = "id";
-
-    private final NamedParameterJdbcTemplate jdbcTemplate;
-    private final SimpleJdbcInsert jdbcInsert;
+    private static final String SELECT_BY_ID_SQL = "SELECT id, name FROM menu_group WHERE id = (:id)";
+    private static final String SELECT_ALL_SQL = "SELECT id, name FROM menu_group";
+    private static final String EXISTS_BY_ID_SQL =
+            "SELECT CASE WHEN COUNT(*) > 0 THEN TRUE ELSE FALSE END FROM menu_group WHERE id = (:id)";
 
     public JdbcTemplateMenuGroupDao(final DataSource dataSource) {
-        jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
-        jdbcInsert = new SimpleJdbcInsert(dataSource)
-                .withTableName(TABLE_NAME)
-                .usingGeneratedKeyColumns(KEY_COLUMN_NAME)
-        ;
+        super(dataSource, TABLE_NAME, KEY_COLUMN_NAME, "name");
     }
 
     @Override
     public MenuGroup save(final MenuGroup entity) {
-        final SqlParameterSource parameters = new BeanPropertySqlParameterSource(entity);
-        final Number key = jdbcInsert.executeAndReturnKey(parameters);
-        return select(key.longValue());
+        return insert(entity);
     }
 
     @Override
     public Optional<MenuGroup> findById(final Long id) {
-        try {
-            return Optional.of(select(id));
-        } catch (final EmptyResultDataAccessException e) {
-            return Optional.empty();
-        }
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("id", id);
+        return selectOne(SELECT_BY_ID_SQL, parameters);
     }
 
     @Override
     public List<MenuGroup> findAll() {
-        final String sql = "SELECT id, name FROM menu_group";
-        return jdbcTemplate.query(sql, (resultSet, rowNumber) -> toEntity(resultSet));
+        return jdbcTemplate.query(SELECT_ALL_SQL, rowMapper);
     }
 
     @Override
     public boolean existsById(final Long id) {
-        final String sql = "SELECT CASE WHEN COUNT(*) > 0 THEN TRUE ELSE FALSE END FROM menu_group WHERE id = (:id)";
         final SqlParameterSource parameters = new MapSqlParameterSource()
                 .addValue("id", id);
-        return jdbcTemplate.queryForObject(sql, parameters, Boolean.class);
+        return jdbcTemplate.queryForObject(EXISTS_BY_ID_SQL, parameters, Boolean.class);
     }
 
-    private MenuGroup select(final Long id) {
-        final String sql = "SELECT id, name FROM menu_group WHERE id = (:id)";
-        final SqlParameterSource parameters = new MapSqlParameterSource()
-                .addValue("id", id);
-        return jdbcTemplate.queryForObject(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet));
+    @Override
+    protected void bindInsert(final PreparedStatement statement, final MenuGroup entity) throws SQLException {
+        statement.setString(1, entity.getName());
     }
 
-    private MenuGroup toEntity(final ResultSet resultSet) throws SQLException {
+    @Override
+    protected MenuGroup toSavedEntity(final MenuGroup entity, final long key) {
+        final MenuGroup savedEntity = new MenuGroup();
+        savedEntity.setId(key);
+        savedEntity.setName(entity.getName());
+        return savedEntity;
+    }
+
+    @Override
+    protected MenuGroup toEntity(final ResultSet resultSet) throws SQLException {
         final MenuGroup entity = new MenuGroup();
-        entity.setId(resultSet.getLong("id"));
+        entity.setId(resultSet.getLong(KEY_COLUMN_NAME));
         entity.setName(resultSet.getString("name"));
         return entity;
     }
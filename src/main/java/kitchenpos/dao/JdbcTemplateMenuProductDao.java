@@ -1,74 +1,97 @@
 package kitchenpos.dao;
 
 import kitchenpos.domain.MenuProduct;
-import org.springframework.dao.EmptyResultDataAccessException;
-import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
-import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
-import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
 import org.springframework.stereotype.Repository;
 
 import javax.sql.DataSource;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public class JdbcTemplateMenuProductDao implements MenuProductDao {
+public class JdbcTemplateMenuProductDao extends AbstractJdbcTemplateDao<MenuProduct> implements MenuProductDao {
     private static final String TABLE_NAME = "menu_product";
     private static final String KEY_COLUMN_NAME = "seq";
-
-    private final NamedParameterJdbcTemplate jdbcTemplate;
-    private final SimpleJdbcInsert jdbcInsert;
+    private static final String SELECT_BY_ID_SQL =
+            "SELECT seq, menu_id, product_id, quantity FROM menu_product WHERE seq = (:seq)";
+    private static final String SELECT_ALL_SQL = "SELECT seq, menu_id, product_id, quantity FROM menu_product";
+    private static final String SELECT_BY_MENU_ID_SQL =
+            "SELECT seq, menu_id, product_id, quantity FROM menu_product WHERE menu_id = (:menuId)";
+    private static final String SELECT_BY_MENU_ID_IN_SQL =
+            "SELECT seq, menu_id, product_id, quantity FROM menu_product WHERE menu_id IN (:menuIds)";
+    private static final String SELECT_BY_PRODUCT_ID_SQL =
+            "SELECT seq, menu_id, product_id, quantity FROM menu_product WHERE product_id = (:productId)";
 
     public JdbcTemplateMenuProductDao(final DataSource dataSource) {
-        jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
-        jdbcInsert = new SimpleJdbcInsert(dataSource)
-                .withTableName(TABLE_NAME)
-                .usingGeneratedKeyColumns(KEY_COLUMN_NAME)
-        ;
+        super(dataSource, TABLE_NAME, KEY_COLUMN_NAME, "menu_id", "product_id", "quantity");
     }
 
     @Override
     public MenuProduct save(final MenuProduct entity) {
-        final SqlParameterSource parameters = new BeanPropertySqlParameterSource(entity);
-        final Number key = jdbcInsert.executeAndReturnKey(parameters);
-        return select(key.longValue());
+        return insert(entity);
+    }
+
+    @Override
+    public List<MenuProduct> saveAll(final List<MenuProduct> entities) {
+        return insertAll(entities);
     }
 
     @Override
     public Optional<MenuProduct> findById(final Long id) {
-        try {
-            return Optional.of(select(id));
-        } catch (final EmptyResultDataAccessException e) {
-            return Optional.empty();
-        }
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("seq", id);
+        return selectOne(SELECT_BY_ID_SQL, parameters);
     }
 
     @Override
     public List<MenuProduct> findAll() {
-        final String sql = "SELECT seq, menu_id, product_id, quantity FROM menu_product";
-        return jdbcTemplate.query(sql, (resultSet, rowNumber) -> toEntity(resultSet));
+        return jdbcTemplate.query(SELECT_ALL_SQL, rowMapper);
     }
 
     @Override
     public List<MenuProduct> findAllByMenuId(final Long menuId) {
-        final String sql = "SELECT seq, menu_id, product_id, quantity FROM menu_product WHERE menu_id = (:menuId)";
         final SqlParameterSource parameters = new MapSqlParameterSource()
                 .addValue("menuId", menuId);
-        return jdbcTemplate.query(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet));
+        return jdbcTemplate.query(SELECT_BY_MENU_ID_SQL, parameters, rowMapper);
     }
 
-    private MenuProduct select(final Long id) {
-        final String sql = "SELECT seq, menu_id, product_id, quantity FROM menu_product WHERE seq = (:seq)";
+    @Override
+    public List<MenuProduct> findAllByMenuIdIn(final List<Long> menuIds) {
         final SqlParameterSource parameters = new MapSqlParameterSource()
-                .addValue("seq", id);
-        return jdbcTemplate.queryForObject(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet));
+                .addValue("menuIds", menuIds);
+        return jdbcTemplate.query(SELECT_BY_MENU_ID_IN_SQL, parameters, rowMapper);
     }
 
-    private MenuProduct toEntity(final ResultSet resultSet) throws SQLException {
+    @Override
+    public List<MenuProduct> findAllByProductId(final Long productId) {
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("productId", productId);
+        return jdbcTemplate.query(SELECT_BY_PRODUCT_ID_SQL, parameters, rowMapper);
+    }
+
+    @Override
+    protected void bindInsert(final PreparedStatement statement, final MenuProduct entity) throws SQLException {
+        statement.setLong(1, entity.getMenuId());
+        statement.setLong(2, entity.getProductId());
+        statement.setLong(3, entity.getQuantity());
+    }
+
+    @Override
+    protected MenuProduct toSavedEntity(final MenuProduct entity, final long key) {
+        final MenuProduct savedEntity = new MenuProduct();
+        savedEntity.setSeq(key);
+        savedEntity.setMenuId(entity.getMenuId());
+        savedEntity.setProductId(entity.getProductId());
+        savedEntity.setQuantity(entity.getQuantity());
+        return savedEntity;
+    }
+
+    @Override
+    protected MenuProduct toEntity(final ResultSet resultSet) throws SQLException {
         final MenuProduct entity = new MenuProduct();
         entity.setSeq(resultSet.getLong(KEY_COLUMN_NAME));
         entity.setMenuId(resultSet.getLong("menu_id"));
@@ -0,0 +1,45 @@
+package kitchenpos.dao;
+
+import kitchenpos.domain.OrderStatus;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public class JdbcTemplateOrderArchiveDao implements OrderArchiveDao {
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public JdbcTemplateOrderArchiveDao(final DataSource dataSource) {
+        jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+    }
+
+    @Override
+    public List<Long> findArchivableOrderIds(final LocalDateTime orderedBefore, final int limit) {
+        final String sql = "SELECT id FROM orders" +
+                " WHERE order_status = (:orderStatus) AND ordered_time < (:orderedBefore)" +
+                " ORDER BY ordered_time LIMIT (:limit)";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("orderStatus", OrderStatus.COMPLETION.name())
+                .addValue("orderedBefore", orderedBefore)
+                .addValue("limit", limit);
+        return jdbcTemplate.queryForList(sql, parameters, Long.class);
+    }
+
+    @Override
+    public void moveToHistory(final List<Long> orderIds) {
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("orderIds", orderIds);
+        jdbcTemplate.update("INSERT INTO orders_history (id, order_table_id, order_status, ordered_time)" +
+                " SELECT id, order_table_id, order_status, ordered_time FROM orders WHERE id IN (:orderIds)", parameters);
+        jdbcTemplate.update("INSERT INTO order_line_item_history (seq, order_id, menu_id, quantity)" +
+                " SELECT seq, order_id, menu_id, quantity FROM order_line_item WHERE order_id IN (:orderIds)", parameters);
+        jdbcTemplate.update("DELETE FROM order_line_item WHERE order_id IN (:orderIds)", parameters);
+        jdbcTemplate.update("DELETE FROM idempotency_key WHERE order_id IN (:orderIds)", parameters);
+        jdbcTemplate.update("DELETE FROM orders WHERE id IN (:orderIds)", parameters);
+    }
+}
@@ -1,44 +1,49 @@
 package kitchenpos.dao;
 
 import kitchenpos.domain.Order;
-import org.springframework.dao.EmptyResultDataAccessException;
-import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderSearchCondition;
+import kitchenpos.domain.OrderSortKey;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
-import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
-import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
 import org.springframework.stereotype.Repository;
+import org.springframework.util.CollectionUtils;
 
 import javax.sql.DataSource;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Repository
-public class JdbcTemplateOrderDao implements OrderDao {
+public class JdbcTemplateOrderDao extends AbstractJdbcTemplateDao<Order> implements OrderDao {
     private static final String TABLE_NAME = "orders";
     private static final String KEY_COLUMN_NAME = "id";
+    private static final int STREAMING_FETCH_SIZE = 500;
+    private static final String SELECT_BY_ID_SQL =
+            "SELECT id, order_table_id, order_status, ordered_time FROM orders WHERE id = (:id)";
+    private static final String SELECT_ALL_SQL = "SELECT id, order_table_id, order_status, ordered_time FROM orders";
+    private static final String UPDATE_SQL = "UPDATE orders SET order_status = (:orderStatus) WHERE id = (:id)";
 
-    private final NamedParameterJdbcTemplate jdbcTemplate;
-    private final SimpleJdbcInsert jdbcInsert;
+    private final JdbcTemplate streamingJdbcTemplate;
 
     public JdbcTemplateOrderDao(final DataSource dataSource) {
-        jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
-        jdbcInsert = new SimpleJdbcInsert(dataSource)
-                .withTableName(TABLE_NAME)
-                .usingGeneratedKeyColumns(KEY_COLUMN_NAME)
-        ;
+        super(dataSource, TABLE_NAME, KEY_COLUMN_NAME, "order_table_id", "order_status", "ordered_time");
+        streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        streamingJdbcTemplate.setFetchSize(STREAMING_FETCH_SIZE);
     }
 
     @Override
     public Order save(final Order entity) {
         if (Objects.isNull(entity.getId())) {
-            final SqlParameterSource parameters = new BeanPropertySqlParameterSource(entity);
-            final Number key = jdbcInsert.executeAndReturnKey(parameters);
-            return select(key.longValue());
+            return insert(entity);
         }
         update(entity);
         return entity;
@@ -46,17 +51,91 @@ public class JdbcTemplateOrderDao implements OrderDao {
 
     @Override
     public Optional<Order> findById(final Long id) {
-        try {
-            return Optional.of(select(id));
-        } catch (final EmptyResultDataAccessException e) {
-            return Optional.empty();
-        }
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("id", id);
+        return selectOne(SELECT_BY_ID_SQL, parameters);
     }
 
     @Override
     public List<Order> findAll() {
-        final String sql = "SELECT id, order_table_id, order_status, ordered_time FROM orders";
-        return jdbcTemplate.query(sql, (resultSet, rowNumber) -> toEntity(resultSet));
+        return jdbcTemplate.query(SELECT_ALL_SQL, rowMapper);
+    }
+
+    @Override
+    public List<Order> findAllByIdInForUpdate(final List<Long> ids) {
+        final String sql = "SELECT id, order_table_id, order_status, ordered_time FROM orders WHERE id IN (:ids) FOR UPDATE";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("ids", ids);
+        return jdbcTemplate.query(sql, parameters, rowMapper);
+    }
+
+    @Override
+    public int updateOrderStatusByIdIn(final List<Long> ids, final String orderStatus) {
+        final String sql = "UPDATE orders SET order_status = (:orderStatus) WHERE id IN (:ids)";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("orderStatus", orderStatus)
+                .addValue("ids", ids);
+        return jdbcTemplate.update(sql, parameters);
+    }
+
+    @Override
+    public List<Order> findAllByCondition(final OrderSearchCondition condition) {
+        final boolean byOrderedTime = condition.getSort() == OrderSortKey.ORDERED_TIME;
+        final StringBuilder where = new StringBuilder(" WHERE 1 = 1");
+        final MapSqlParameterSource parameters = new MapSqlParameterSource();
+        if (!CollectionUtils.isEmpty(condition.getOrderStatuses())) {
+            where.append(" AND order_status IN (:orderStatuses)");
+            parameters.addValue("orderStatuses", condition.getOrderStatuses());
+        }
+        if (Objects.nonNull(condition.getOrderTableId())) {
+            where.append(" AND order_table_id = (:orderTableId)");
+            parameters.addValue("orderTableId", condition.getOrderTableId());
+        }
+        if (Objects.nonNull(condition.getOrderedTimeFrom())) {
+            where.append(" AND ordered_time >= (:orderedTimeFrom)");
+            parameters.addValue("orderedTimeFrom", condition.getOrderedTimeFrom());
+        }
+        if (Objects.nonNull(condition.getOrderedTimeTo())) {
+            where.append(" AND ordered_time < (:orderedTimeTo)");
+            parameters.addValue("orderedTimeTo", condition.getOrderedTimeTo());
+        }
+        if (Objects.nonNull(condition.getCursor()) && byOrderedTime) {
+            where.append(" AND ordered_time >= (:cursorOrderedTime)")
+                    .append(" AND (ordered_time > (:cursorOrderedTime) OR id > (:cursor))");
+            parameters.addValue("cursorOrderedTime", condition.getCursorOrderedTime());
+            parameters.addValue("cursor", condition.getCursor());
+        } else if (Objects.nonNull(condition.getCursor())) {
+            where.append(" AND id > (:cursor)");
+            parameters.addValue("cursor", condition.getCursor());
+        }
+        final StringBuilder sql = new StringBuilder("SELECT id, order_table_id, order_status, ordered_time FROM orders")
+                .append(where);
+        if (condition.isIncludeHistory()) {
+            sql.append(" UNION ALL SELECT id, order_table_id, order_status, ordered_time FROM orders_history")
+                    .append(where);
+        }
+        sql.append(byOrderedTime ? " ORDER BY ordered_time, id" : " ORDER BY id");
+        if (Objects.nonNull(condition.getSize())) {
+            sql.append(" LIMIT (:size)");
+            parameters.addValue("size", condition.getSize());
+        }
+        return jdbcTemplate.query(sql.toString(), parameters, rowMapper);
+    }
+
+    @Override
+    public void forEachWithOrderLineItems(final boolean includeHistory, final Consumer<Order> consumer) {
+        final StringBuilder sql = new StringBuilder("SELECT o.id, o.order_table_id, o.order_status, o.ordered_time,")
+                .append(" oli.seq, oli.menu_id, oli.quantity")
+                .append(" FROM orders o LEFT JOIN order_line_item oli ON oli.order_id = o.id");
+        if (includeHistory) {
+            sql.append(" UNION ALL SELECT o.id, o.order_table_id, o.order_status, o.ordered_time,")
+                    .append(" oli.seq, oli.menu_id, oli.quantity")
+                    .append(" FROM orders_history o LEFT JOIN order_line_item_history oli ON oli.order_id = o.id");
+        }
+        sql.append(" ORDER BY id, seq");
+        final OrderWithOrderLineItemsCallbackHandler handler = new OrderWithOrderLineItemsCallbackHandler(consumer);
+        streamingJdbcTemplate.query(sql.toString(), handler);
+        handler.flush();
     }
 
     @Override
@@ -79,22 +158,25 @@ public class JdbcTemplateOrderDao implements OrderDao {
         return jdbcTemplate.queryForObject(sql, parameters, Boolean.class);
     }
 
-    private Order select(final Long id) {
-        final String sql = "SELECT id, order_table_id, order_status, ordered_time FROM orders WHERE id = (:id)";
-        final SqlParameterSource parameters = new MapSqlParameterSource()
-                .addValue("id", id);
-        return jdbcTemplate.queryForObject(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet));
+    @Override
+    protected void bindInsert(final PreparedStatement statement, final Order entity) throws SQLException {
+        statement.setLong(1, entity.getOrderTableId());
+        statement.setString(2, entity.getOrderStatus());
+        statement.setObject(3, entity.getOrderedTime());
     }
 
-    private void update(final Order entity) {
-        final String sql = "UPDATE orders SET order_status = (:orderStatus) WHERE id = (:id)";
-        final SqlParameterSource parameters = new MapSqlParameterSource()
-                .addValue("orderStatus", entity.getOrderStatus())
-                .addValue("id", entity.getId());
-        jdbcTemplate.update(sql, parameters);
+    @Override
+    protected Order toSavedEntity(final Order entity, final long key) {
+        final Order savedEntity = new Order();
+        savedEntity.setId(key);
+        savedEntity.setOrderTableId(entity.getOrderTableId());
+        savedEntity.setOrderStatus(entity.getOrderStatus());
+        savedEntity.setOrderedTime(entity.getOrderedTime());
+        return savedEntity;
     }
 
-    private Order toEntity(final ResultSet resultSet) throws SQLException {
+    @Override
+    protected Order toEntity(final ResultSet resultSet) throws SQLException {
         final Order entity = new Order();
         entity.setId(resultSet.getLong(KEY_COLUMN_NAME));
         entity.setOrderTableId(resultSet.getLong("order_table_id"));
@@ -102,4 +184,46 @@ public class JdbcTemplateOrderDao implements OrderDao {
         entity.setOrderedTime(resultSet.getObject("ordered_time", LocalDateTime.class));
         return entity;
     }
+
+    private void update(final Order entity) {
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("orderStatus", entity.getOrderStatus())
+                .addValue("id", entity.getId());
+        jdbcTemplate.update(UPDATE_SQL, parameters);
+    }
+
+    private class OrderWithOrderLineItemsCallbackHandler implements RowCallbackHandler {
+        private final Consumer<Order> consumer;
+        private Order current;
+
+        OrderWithOrderLineItemsCallbackHandler(final Consumer<Order> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void processRow(final ResultSet resultSet) throws SQLException {
+            final long id = resultSet.getLong(KEY_COLUMN_NAME);
+            if (Objects.isNull(current) || current.getId() != id) {
+                flush();
+                current = toEntity(resultSet);
+                current.setOrderLineItems(new ArrayList<>());
+            }
+            final long seq = resultSet.getLong("seq");
+            if (!resultSet.wasNull()) {
+                final OrderLineItem orderLineItem = new OrderLineItem();
+                orderLineItem.setSeq(seq);
+                orderLineItem.setOrderId(id);
+                orderLineItem.setMenuId(resultSet.getLong("menu_id"));
+                orderLineItem.setQuantity(resultSet.getLong("quantity"));
+                current.getOrderLineItems().add(orderLineItem);
+            }
+        }
+
+        void flush() {
+            if (Objects.nonNull(current)) {
+                consumer.accept(current);
+                current = null;
+            }
+        }
+    }
 }
@@ -1,74 +1,97 @@
 package kitchenpos.dao;
 
 import kitchenpos.domain.OrderLineItem;
-import org.springframework.dao.EmptyResultDataAccessException;
-import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
-import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
-import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
 import org.springframework.stereotype.Repository;
 
 import javax.sql.DataSource;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public class JdbcTemplateOrderLineItemDao implements OrderLineItemDao {
+public class JdbcTemplateOrderLineItemDao extends AbstractJdbcTemplateDao<OrderLineItem> implements OrderLineItemDao {
     private static final String TABLE_NAME = "order_line_item";
     private static final String KEY_COLUMN_NAME = "seq";
-
-    private final NamedParameterJdbcTemplate jdbcTemplate;
-    private final SimpleJdbcInsert jdbcInsert;
+    private static final String SELECT_BY_ID_SQL =
+            "SELECT seq, order_id, menu_id, quantity FROM order_line_item WHERE seq = (:seq)";
+    private static final String SELECT_ALL_SQL = "SELECT seq, order_id, menu_id, quantity FROM order_line_item";
+    private static final String SELECT_BY_ORDER_ID_SQL =
+            "SELECT seq, order_id, menu_id, quantity FROM order_line_item WHERE order_id = (:orderId)";
+    private static final String SELECT_BY_ORDER_ID_IN_SQL =
+            "SELECT seq, order_id, menu_id, quantity FROM order_line_item WHERE order_id IN (:orderIds)";
+    private static final String SELECT_BY_ORDER_ID_IN_INCLUDING_HISTORY_SQL = SELECT_BY_ORDER_ID_IN_SQL +
+            " UNION ALL SELECT seq, order_id, menu_id, quantity FROM order_line_item_history WHERE order_id IN (:orderIds)";
 
     public JdbcTemplateOrderLineItemDao(final DataSource dataSource) {
-        jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
-        jdbcInsert = new SimpleJdbcInsert(dataSource)
-                .withTableName(TABLE_NAME)
-                .usingGeneratedKeyColumns(KEY_COLUMN_NAME)
-        ;
+        super(dataSource, TABLE_NAME, KEY_COLUMN_NAME, "order_id", "menu_id", "quantity");
     }
 
     @Override
     public OrderLineItem save(final OrderLineItem entity) {
-        final SqlParameterSource parameters = new BeanPropertySqlParameterSource(entity);
-        final Number key = jdbcInsert.executeAndReturnKey(parameters);
-        return select(key.longValue());
+        return insert(entity);
+    }
+
+    @Override
+    public List<OrderLineItem> saveAll(final List<OrderLineItem> entities) {
+        return insertAll(entities);
     }
 
     @Override
     public Optional<OrderLineItem> findById(final Long id) {
-        try {
-            return Optional.of(select(id));
-        } catch (final EmptyResultDataAccessException e) {
-            return Optional.empty();
-        }
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("seq", id);
+        return selectOne(SELECT_BY_ID_SQL, parameters);
     }
 
     @Override
     public List<OrderLineItem> findAll() {
-        final String sql = "SELECT seq, order_id, menu_id, quantity FROM order_line_item";
-        return jdbcTemplate.query(sql, (resultSet, rowNumber) -> toEntity(resultSet));
+        return jdbcTemplate.query(SELECT_ALL_SQL, rowMapper);
     }
 
     @Override
     public List<OrderLineItem> findAllByOrderId(final Long orderId) {
-        final String sql = "SELECT seq, order_id, menu_id, quantity FROM order_line_item WHERE order_id = (:orderId)";
         final SqlParameterSource parameters = new MapSqlParameterSource()
                 .addValue("orderId", orderId);
-        return jdbcTemplate.query(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet));
+        return jdbcTemplate.query(SELECT_BY_ORDER_ID_SQL, parameters, rowMapper);
     }
 
-    private OrderLineItem select(final Long id) {
-        final String sql = "SELECT seq, order_id, menu_id, quantity FROM order_line_item WHERE seq = (:seq)";
+    @Override
+    public List<OrderLineItem> findAllByOrderIdIn(final List<Long> orderIds) {
         final SqlParameterSource parameters = new MapSqlParameterSource()
-                .addValue("seq", id);
-        return jdbcTemplate.queryForObject(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet));
+                .addValue("orderIds", orderIds);
+        return jdbcTemplate.query(SELECT_BY_ORDER_ID_IN_SQL, parameters, rowMapper);
     }
 
-    private OrderLineItem toEntity(final ResultSet resultSet) throws SQLException {
+    @Override
+    public List<OrderLineItem> findAllByOrderIdInIncludingHistory(final List<Long> orderIds) {
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("orderIds", orderIds);
+        return jdbcTemplate.query(SELECT_BY_ORDER_ID_IN_INCLUDING_HISTORY_SQL, parameters, rowMapper);
+    }
+
+    @Override
+    protected void bindInsert(final PreparedStatement statement, final OrderLineItem entity) throws SQLException {
+        statement.setLong(1, entity.getOrderId());
+        statement.setLong(2, entity.getMenuId());
+        statement.setLong(3, entity.getQuantity());
+    }
+
+    @Override
+    protected OrderLineItem toSavedEntity(final OrderLineItem entity, final long key) {
+        final OrderLineItem savedEntity = new OrderLineItem();
+        savedEntity.setSeq(key);
+        savedEntity.setOrderId(entity.getOrderId());
+        savedEntity.setMenuId(entity.getMenuId());
+        savedEntity.setQuantity(entity.getQuantity());
+        return savedEntity;
+    }
+
+    @Override
+    protected OrderLineItem toEntity(final ResultSet resultSet) throws SQLException {
         final OrderLineItem entity = new OrderLineItem();
         entity.setSeq(resultSet.getLong(KEY_COLUMN_NAME));
         entity.setOrderId(resultSet.getLong("order_id"));
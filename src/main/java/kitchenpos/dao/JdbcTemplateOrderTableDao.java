@@ -1,43 +1,41 @@
 package kitchenpos.dao;
 
 import kitchenpos.domain.OrderTable;
-import org.springframework.dao.EmptyResultDataAccessException;
-import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
-import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
-import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
 import org.springframework.stereotype.Repository;
 
 import javax.sql.DataSource;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
 @Repository
-public class JdbcTemplateOrderTableDao implements OrderTableDao {
+public class JdbcTemplateOrderTableDao extends AbstractJdbcTemplateDao<OrderTable> implements OrderTableDao {
     private static final String TABLE_NAME = "order_table";
     private static final String KEY_COLUMN_NAME = "id";
-
-    private final NamedParameterJdbcTemplate jdbcTemplate;
-    private final SimpleJdbcInsert jdbcInsert;
+    private static final String SELECT_BY_ID_SQL =
+            "SELECT id, table_group_id, number_of_guests, empty FROM order_table WHERE id = (:id)";
+    private static final String SELECT_ALL_SQL = "SELECT id, table_group_id, number_of_guests, empty FROM order_table";
+    private static final String SELECT_BY_ID_IN_SQL =
+            "SELECT id, table_group_id, number_of_guests, empty FROM order_table WHERE id IN (:ids)";
+    private static final String SELECT_BY_TABLE_GROUP_ID_SQL = "SELECT id, table_group_id, number_of_guests, empty" +
+            " FROM order_table WHERE table_group_id = (:tableGroupId)";
+    private static final String UPDATE_SQL = "UPDATE order_table SET table_group_id = (:tableGroupId)," +
+            " number_of_guests = (:numberOfGuests), empty = (:empty) WHERE id = (:id)";
 
     public JdbcTemplateOrderTableDao(final DataSource dataSource) {
-        jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
-        jdbcInsert = new SimpleJdbcInsert(dataSource)
-                .withTableName(TABLE_NAME)
-                .usingGeneratedKeyColumns(KEY_COLUMN_NAME)
-        ;
+        super(dataSource, TABLE_NAME, KEY_COLUMN_NAME, "table_group_id", "number_of_guests", "empty");
     }
 
     @Override
     public OrderTable save(final OrderTable entity) {
         if (Objects.isNull(entity.getId())) {
-            final SqlParameterSource parameters = new BeanPropertySqlParameterSource(entity);
-            final Number key = jdbcInsert.executeAndReturnKey(parameters);
-            return select(key.longValue());
+            return insert(entity);
         }
         update(entity);
         return entity;
@@ -45,55 +43,53 @@ public class JdbcTemplateOrderTableDao implements OrderTableDao {
 
     @Override
     public Optional<OrderTable> findById(final Long id) {
-        try {
-            return Optional.of(select(id));
-        } catch (final EmptyResultDataAccessException e) {
-            return Optional.empty();
-        }
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("id", id);
+        return selectOne(SELECT_BY_ID_SQL, parameters);
     }
 
     @Override
     public List<OrderTable> findAll() {
-        final String sql = "SELECT id, table_group_id, number_of_guests, empty FROM order_table";
-        return jdbcTemplate.query(sql, (resultSet, rowNumber) -> toEntity(resultSet));
+        return jdbcTemplate.query(SELECT_ALL_SQL, rowMapper);
     }
 
     @Override
     public List<OrderTable> findAllByIdIn(final List<Long> ids) {
-        final String sql = "SELECT id, table_group_id, number_of_guests, empty FROM order_table WHERE id IN (:ids)";
         final SqlParameterSource parameters = new MapSqlParameterSource()
                 .addValue("ids", ids);
-        return jdbcTemplate.query(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet));
+        return jdbcTemplate.query(SELECT_BY_ID_IN_SQL, parameters, rowMapper);
     }
 
     @Override
     public List<OrderTable> findAllByTableGroupId(final Long tableGroupId) {
-        final String sql = "SELECT id, table_group_id, number_of_guests, empty" +
-                " FROM order_table WHERE table_group_id = (:tableGroupId)";
         final SqlParameterSource parameters = new MapSqlParameterSource()
                 .addValue("tableGroupId", tableGroupId);
-        return jdbcTemplate.query(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet));
+        return jdbcTemplate.query(SELECT_BY_TABLE_GROUP_ID_SQL, parameters, rowMapper);
     }
 
-    private OrderTable select(final Long id) {
-        final String sql = "SELECT id, table_group_id, number_of_guests, empty FROM order_table WHERE id = (:id)";
-        final SqlParameterSource parameters = new MapSqlParameterSource()
-                .addValue("id", id);
-        return jdbcTemplate.queryForObject(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet));
+    @Override
+    protected void bindInsert(final PreparedStatement statement, final OrderTable entity) throws SQLException {
+        if (Objects.isNull(entity.getTableGroupId())) {
+            statement.setNull(1, Types.BIGINT);
+        } else {
+            statement.setLong(1, entity.getTableGroupId());
+        }
+        statement.setInt(2, entity.getNumberOfGuests());
+        statement.setBoolean(3, entity.isEmpty());
     }
 
-    private void update(final OrderTable entity) {
-        final String sql = "UPDATE order_table SET table_group_id = (:tableGroupId)," +
-                " number_of_guests = (:numberOfGuests), empty = (:empty) WHERE id = (:id)";
-        final SqlParameterSource parameters = new MapSqlParameterSource()
-                .addValue("tableGroupId", entity.getTableGroupId())
-                .addValue("numberOfGuests", entity.getNumberOfGuests())
-                .addValue("empty", entity.isEmpty())
-                .addValue("id", entity.getId());
-        jdbcTemplate.update(sql, parameters);
+    @Override
+    protected OrderTable toSavedEntity(final OrderTable entity, final long key) {
+        final OrderTable savedEntity = new OrderTable();
+        savedEntity.setId(key);
+        savedEntity.setTableGroupId(entity.getTableGroupId());
+        savedEntity.setNumberOfGuests(entity.getNumberOfGuests());
+        savedEntity.setEmpty(entity.isEmpty());
+        return savedEntity;
     }
 
-    private OrderTable toEntity(final ResultSet resultSet) throws SQLException {
+    @Override
+    protected OrderTable toEntity(final ResultSet resultSet) throws SQLException {
         final OrderTable entity = new OrderTable();
         entity.setId(resultSet.getLong(KEY_COLUMN_NAME));
         entity.setTableGroupId(resultSet.getObject("table_group_id", Long.class));
@@ -101,4 +97,13 @@ public class JdbcTemplateOrderTableDao implements OrderTableDao {
         entity.setEmpty(resultSet.getBoolean("empty"));
         return entity;
     }
+
+    private void update(final OrderTable entity) {
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("tableGroupId", entity.getTableGroupId())
+                .addValue("numberOfGuests", entity.getNumberOfGuests())
+                .addValue("empty", entity.isEmpty())
+                .addValue("id", entity.getId());
+        jdbcTemplate.update(UPDATE_SQL, parameters);
+    }
 }
@@ -1,70 +1,97 @@
 package kitchenpos.dao;
 
+import kitchenpos.domain.Money;
 import kitchenpos.domain.Product;
-import org.springframework.dao.EmptyResultDataAccessException;
-import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
-import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
-import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
 import org.springframework.stereotype.Repository;
 
 import javax.sql.DataSource;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 @Repository
-public class JdbcTemplateProductDao implements ProductDao {
+public class JdbcTemplateProductDao extends AbstractJdbcTemplateDao<Product> implements ProductDao {
     private static final String TABLE_NAME = "product";
     private static final String KEY_COLUMN_NAME = "id";
-
-    private final NamedParameterJdbcTemplate jdbcTemplate;
-    private final SimpleJdbcInsert jdbcInsert;
+    private static final String SELECT_BY_ID_SQL = "SELECT id, name, price FROM product WHERE id = (:id)";
+    private static final String SELECT_ALL_SQL = "SELECT id, name, price FROM product";
+    private static final String SELECT_BY_ID_IN_SQL = "SELECT id, name, price FROM product WHERE id IN (:ids)";
+    private static final String SELECT_BY_ID_IN_FOR_UPDATE_SQL = SELECT_BY_ID_IN_SQL + " FOR UPDATE";
+    private static final String UPDATE_SQL = "UPDATE product SET name = (:name), price = (:price) WHERE id = (:id)";
 
     public JdbcTemplateProductDao(final DataSource dataSource) {
-        jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
-        jdbcInsert = new SimpleJdbcInsert(dataSource)
-                .withTableName(TABLE_NAME)
-                .usingGeneratedKeyColumns(KEY_COLUMN_NAME)
-        ;
+        super(dataSource, TABLE_NAME, KEY_COLUMN_NAME, "name", "price");
     }
 
     @Override
     public Product save(final Product entity) {
-        final SqlParameterSource parameters = new BeanPropertySqlParameterSource(entity);
-        final Number key = jdbcInsert.executeAndReturnKey(parameters);
-        return select(key.longValue());
+        if (Objects.isNull(entity.getId())) {
+            return insert(entity);
+        }
+        update(entity);
+        return entity;
     }
 
     @Override
     public Optional<Product> findById(final Long id) {
-        try {
-            return Optional.of(select(id));
-        } catch (final EmptyResultDataAccessException e) {
-            return Optional.empty();
-        }
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("id", id);
+        return selectOne(SELECT_BY_ID_SQL, parameters);
     }
 
     @Override
     public List<Product> findAll() {
-        final String sql = "SELECT id, name, price FROM product";
-        return jdbcTemplate.query(sql, (resultSet, rowNumber) -> toEntity(resultSet));
+        return jdbcTemplate.query(SELECT_ALL_SQL, rowMapper);
     }
 
-    private Product select(final Long id) {
-        final String sql = "SELECT id, name, price FROM product WHERE id = (:id)";
+    @Override
+    public List<Product> findAllByIdIn(final List<Long> ids) {
         final SqlParameterSource parameters = new MapSqlParameterSource()
-                .addValue("id", id);
-        return jdbcTemplate.queryForObject(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet));
+                .addValue("ids", ids);
+        return jdbcTemplate.query(SELECT_BY_ID_IN_SQL, parameters, rowMapper);
+    }
+
+    @Override
+    public List<Product> findAllByIdInForUpdate(final List<Long> ids) {
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("ids", ids);
+        return jdbcTemplate.query(SELECT_BY_ID_IN_FOR_UPDATE_SQL, parameters, rowMapper);
+    }
+
+    @Override
+    protected void bindInsert(final PreparedStatement statement, final Product entity) throws SQLException {
+        statement.setString(1, entity.getName());
+        statement.setBigDecimal(2, entity.getPrice().toBigDecimal());
     }
 
-    private Product toEntity(final ResultSet resultSet) throws SQLException {
+    @Override
+    protected Product toSavedEntity(final Product entity, final long key) {
+        final Product savedEntity = new Product();
+        savedEntity.setId(key);
+        savedEntity.setName(entity.getName());
+        savedEntity.setPrice(entity.getPrice());
+        return savedEntity;
+    }
+
+    @Override
+    protected Product toEntity(final ResultSet resultSet) throws SQLException {
         final Product entity = new Product();
         entity.setId(resultSet.getLong(KEY_COLUMN_NAME));
         entity.setName(resultSet.getString("name"));
-        entity.setPrice(resultSet.getBigDecimal("price"));
+        entity.setPrice(Money.from(resultSet.getBigDecimal("price")));
         return entity;
     }
+
+    private void update(final Product entity) {
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("name", entity.getName())
+                .addValue("price", entity.getPrice().toBigDecimal())
+                .addValue("id", entity.getId());
+        jdbcTemplate.update(UPDATE_SQL, parameters);
+    }
 }
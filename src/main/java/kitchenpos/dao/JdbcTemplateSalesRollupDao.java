@@ -0,0 +1,104 @@
+package kitchenpos.dao;
+
+import kitchenpos.domain.SalesRollup;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public class JdbcTemplateSalesRollupDao implements SalesRollupDao {
+    private static final String INCREASE_SQL = "UPDATE sales_rollup" +
+            " SET quantity = quantity + (:quantity), revenue = revenue + (:revenue)" +
+            " WHERE menu_id = (:menuId) AND sales_hour = (:salesHour)";
+    private static final String INSERT_SQL = "INSERT INTO sales_rollup" +
+            " (menu_id, sales_hour, menu_group_id, quantity, revenue)" +
+            " VALUES (:menuId, :salesHour, :menuGroupId, :quantity, :revenue)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public JdbcTemplateSalesRollupDao(final DataSource dataSource) {
+        jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+    }
+
+    @Override
+    public void addAll(final List<SalesRollup> deltas) {
+        final SqlParameterSource[] parameters = deltas.stream()
+                .map(this::toParameters)
+                .toArray(SqlParameterSource[]::new);
+        final int[] updated = jdbcTemplate.batchUpdate(INCREASE_SQL, parameters);
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                insertOrIncrease(parameters[i]);
+            }
+        }
+    }
+
+    @Override
+    public List<SalesRollup> sumByMenu(final LocalDateTime from, final LocalDateTime to) {
+        final String sql = "SELECT menu_id, MIN(menu_group_id) AS menu_group_id, NULL AS sales_hour," +
+                " SUM(quantity) AS quantity, SUM(revenue) AS revenue" +
+                " FROM sales_rollup WHERE sales_hour >= (:from) AND sales_hour < (:to)" +
+                " GROUP BY menu_id ORDER BY menu_id";
+        return sum(sql, from, to);
+    }
+
+    @Override
+    public List<SalesRollup> sumByMenuGroup(final LocalDateTime from, final LocalDateTime to) {
+        final String sql = "SELECT NULL AS menu_id, menu_group_id, NULL AS sales_hour," +
+                " SUM(quantity) AS quantity, SUM(revenue) AS revenue" +
+                " FROM sales_rollup WHERE sales_hour >= (:from) AND sales_hour < (:to)" +
+                " GROUP BY menu_group_id ORDER BY menu_group_id";
+        return sum(sql, from, to);
+    }
+
+    @Override
+    public List<SalesRollup> sumByHour(final LocalDateTime from, final LocalDateTime to) {
+        final String sql = "SELECT NULL AS menu_id, NULL AS menu_group_id, sales_hour," +
+                " SUM(quantity) AS quantity, SUM(revenue) AS revenue" +
+                " FROM sales_rollup WHERE sales_hour >= (:from) AND sales_hour < (:to)" +
+                " GROUP BY sales_hour ORDER BY sales_hour";
+        return sum(sql, from, to);
+    }
+
+    private void insertOrIncrease(final SqlParameterSource parameters) {
+        try {
+            jdbcTemplate.update(INSERT_SQL, parameters);
+        } catch (final DuplicateKeyException e) {
+            jdbcTemplate.update(INCREASE_SQL, parameters);
+        }
+    }
+
+    private List<SalesRollup> sum(final String sql, final LocalDateTime from, final LocalDateTime to) {
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("from", from)
+                .addValue("to", to);
+        return jdbcTemplate.query(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet));
+    }
+
+    private SqlParameterSource toParameters(final SalesRollup entity) {
+        return new MapSqlParameterSource()
+                .addValue("menuId", entity.getMenuId())
+                .addValue("salesHour", entity.getSalesHour())
+                .addValue("menuGroupId", entity.getMenuGroupId())
+                .addValue("quantity", entity.getQuantity())
+                .addValue("revenue", entity.getRevenue());
+    }
+
+    private SalesRollup toEntity(final ResultSet resultSet) throws SQLException {
+        final SalesRollup entity = new SalesRollup();
+        entity.setMenuId(resultSet.getObject("menu_id", Long.class));
+        entity.setMenuGroupId(resultSet.getObject("menu_group_id", Long.class));
+        entity.setSalesHour(resultSet.getObject("sales_hour", LocalDateTime.class));
+        entity.setQuantity(resultSet.getLong("quantity"));
+        entity.setRevenue(resultSet.getBigDecimal("revenue"));
+        return entity;
+    }
+}
@@ -1,15 +1,12 @@
 package kitchenpos.dao;
 
 import kitchenpos.domain.TableGroup;
-import org.springframework.dao.EmptyResultDataAccessException;
-import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
-import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
-import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
 import org.springframework.stereotype.Repository;
 
 import javax.sql.DataSource;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.LocalDateTime;
@@ -17,51 +14,48 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public class JdbcTemplateTableGroupDao implements TableGroupDao {
+public class JdbcTemplateTableGroupDao extends AbstractJdbcTemplateDao<TableGroup> implements TableGroupDao {
     private static final String TABLE_NAME = "table_group";
     private static final String KEY_COLUMN_NAME = "id";
-
-    private final NamedParameterJdbcTemplate jdbcTemplate;
-    private final SimpleJdbcInsert jdbcInsert;
+    private static final String SELECT_BY_ID_SQL = "SELECT id, created_date FROM table_group WHERE id = (:id)";
+    private static final String SELECT_ALL_SQL = "SELECT id, created_date FROM table_group";
 
     public JdbcTemplateTableGroupDao(final DataSource dataSource) {
-        jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
-        jdbcInsert = new SimpleJdbcInsert(dataSource)
-                .withTableName(TABLE_NAME)
-                .usingGeneratedKeyColumns(KEY_COLUMN_NAME)
-        ;
+        super(dataSource, TABLE_NAME, KEY_COLUMN_NAME, "created_date");
     }
 
     @Override
     public TableGroup save(final TableGroup entity) {
-        final SqlParameterSource parameters = new BeanPropertySqlParameterSource(entity);
-        final Number key = jdbcInsert.executeAndReturnKey(parameters);
-        return select(key.longValue());
+        return insert(entity);
     }
 
     @Override
     public Optional<TableGroup> findById(final Long id) {
-        try {
-            return Optional.of(select(id));
-        } catch (final EmptyResultDataAccessException e) {
-            return Optional.empty();
-        }
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("id", id);
+        return selectOne(SELECT_BY_ID_SQL, parameters);
     }
 
     @Override
     public List<TableGroup> findAll() {
-        final String sql = "SELECT id, created_date FROM table_group";
-        return jdbcTemplate.query(sql, (resultSet, rowNumber) -> toEntity(resultSet));
+        return jdbcTemplate.query(SELECT_ALL_SQL, rowMapper);
     }
 
-    private TableGroup select(final Long id) {
-        final String sql = "SELECT id, created_date FROM table_group WHERE id = (:id)";
-        final SqlParameterSource parameters = new MapSqlParameterSource()
-                .addValue("id", id);
-        return jdbcTemplate.queryForObject(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet));
+    @Override
+    protected void bindInsert(final PreparedStatement statement, final TableGroup entity) throws SQLException {
+        statement.setObject(1, entity.getCreatedDate());
     }
 
-    private TableGroup toEntity(final ResultSet resultSet) throws SQLException {
+    @Override
+    protected TableGroup toSavedEntity(final TableGroup entity, final long key) {
+        final TableGroup savedEntity = new TableGroup();
+        savedEntity.setId(key);
+        savedEntity.setCreatedDate(entity.getCreatedDate());
+        return savedEntity;
+    }
+
+    @Override
+    protected TableGroup toEntity(final ResultSet resultSet) throws SQLException {
         final TableGroup entity = new TableGroup();
         entity.setId(resultSet.getLong(KEY_COLUMN_NAME));
         entity.setCreatedDate(resultSet.getObject("created_date", LocalDateTime.class));
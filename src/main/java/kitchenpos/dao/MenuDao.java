@@ -12,5 +12,9 @@ public interface MenuDao {
 
     List<Menu> findAll();
 
+    List<Menu> findAllByIdIn(List<Long> ids);
+
+    List<Menu> findAllByIdInForUpdate(List<Long> ids);
+
     long countByIdIn(List<Long> ids);
 }
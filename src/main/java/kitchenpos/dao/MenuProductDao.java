@@ -8,9 +8,15 @@ import java.util.Optional;
 public interface MenuProductDao {
     MenuProduct save(MenuProduct entity);
 
+    List<MenuProduct> saveAll(List<MenuProduct> entities);
+
     Optional<MenuProduct> findById(Long id);
 
     List<MenuProduct> findAll();
 
     List<MenuProduct> findAllByMenuId(Long menuId);
+
+    List<MenuProduct> findAllByMenuIdIn(List<Long> menuIds);
+
+    List<MenuProduct> findAllByProductId(Long productId);
 }
@@ -0,0 +1,10 @@
+package kitchenpos.dao;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OrderArchiveDao {
+    List<Long> findArchivableOrderIds(LocalDateTime orderedBefore, int limit);
+
+    void moveToHistory(List<Long> orderIds);
+}
@@ -1,9 +1,11 @@
 package kitchenpos.dao;
 
 import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderSearchCondition;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface OrderDao {
     Order save(Order entity);
@@ -12,6 +14,14 @@ public interface OrderDao {
 
     List<Order> findAll();
 
+    List<Order> findAllByIdInForUpdate(List<Long> ids);
+
+    int updateOrderStatusByIdIn(List<Long> ids, String orderStatus);
+
+    List<Order> findAllByCondition(OrderSearchCondition condition);
+
+    void forEachWithOrderLineItems(boolean includeHistory, Consumer<Order> consumer);
+
     boolean existsByOrderTableIdAndOrderStatusIn(Long orderTableId, List<String> orderStatuses);
 
     boolean existsByOrderTableIdInAndOrderStatusIn(List<Long> orderTableIds, List<String> orderStatuses);
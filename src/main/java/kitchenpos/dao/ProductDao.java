@@ -11,4 +11,8 @@ public interface ProductDao {
     Optional<Product> findById(Long id);
 
     List<Product> findAll();
+
+    List<Product> findAllByIdIn(List<Long> ids);
+
+    List<Product> findAllByIdInForUpdate(List<Long> ids);
 }
@@ -0,0 +1,122 @@
+package kitchenpos.dao;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Counts the statements sent through {@link QueryBudgetDataSource} per transaction and per open scope, and logs a
+ * warning when a scope goes over its budget or repeats one statement shape often enough to look like an N+1.
+ * Scopes are thread-bound, so statements issued on other threads, e.g. by the group commit intake, are not included.
+ */
+@Component
+@ConditionalOnProperty(name = "kitchenpos.query-budget.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryBudget {
+    private static final Logger log = LoggerFactory.getLogger(QueryBudget.class);
+
+    private final int perRequest;
+    private final int perTransaction;
+    private final int repeatedStatementThreshold;
+    private final ThreadLocal<Deque<QueryStatistics>> scopes = new ThreadLocal<>();
+
+    public QueryBudget(
+            @Value("${kitchenpos.query-budget.per-request:30}") final int perRequest,
+            @Value("${kitchenpos.query-budget.per-transaction:20}") final int perTransaction,
+            @Value("${kitchenpos.query-budget.repeated-statement-threshold:10}") final int repeatedStatementThreshold
+    ) {
+        this.perRequest = perRequest;
+        this.perTransaction = perTransaction;
+        this.repeatedStatementThreshold = repeatedStatementThreshold;
+    }
+
+    /**
+     * Starts counting the statements of the current thread until {@link #close(QueryStatistics)}. Scopes may nest.
+     */
+    public QueryStatistics open() {
+        Deque<QueryStatistics> openScopes = scopes.get();
+        if (Objects.isNull(openScopes)) {
+            openScopes = new ArrayDeque<>();
+            scopes.set(openScopes);
+        }
+        final QueryStatistics statistics = new QueryStatistics();
+        openScopes.push(statistics);
+        return statistics;
+    }
+
+    public void close(final QueryStatistics statistics) {
+        final Deque<QueryStatistics> openScopes = scopes.get();
+        if (Objects.isNull(openScopes)) {
+            return;
+        }
+        openScopes.remove(statistics);
+        if (openScopes.isEmpty()) {
+            scopes.remove();
+        }
+    }
+
+    public void checkRequest(final String request, final QueryStatistics statistics) {
+        check(request, statistics, perRequest);
+    }
+
+    void record(final String sql) {
+        final Deque<QueryStatistics> openScopes = scopes.get();
+        if (Objects.nonNull(openScopes)) {
+            for (final QueryStatistics statistics : openScopes) {
+                statistics.record(sql);
+            }
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()
+                && TransactionSynchronizationManager.isActualTransactionActive()) {
+            transactionStatistics().record(sql);
+        }
+    }
+
+    private QueryStatistics transactionStatistics() {
+        for (final TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof TransactionScope) {
+                return ((TransactionScope) synchronization).statistics;
+            }
+        }
+        final TransactionScope scope = new TransactionScope(TransactionSynchronizationManager.getCurrentTransactionName());
+        TransactionSynchronizationManager.registerSynchronization(scope);
+        return scope.statistics;
+    }
+
+    private void check(final String scope, final QueryStatistics statistics, final int budget) {
+        if (statistics.getCount() <= budget && statistics.getCount() < repeatedStatementThreshold) {
+            return;
+        }
+        final Map<String, Integer> countsByShape = statistics.countsByShape();
+        if (statistics.getCount() > budget) {
+            log.warn("{} issued {} statements, over its budget of {}: {}", scope, statistics.getCount(), budget, countsByShape);
+        }
+        countsByShape.forEach((shape, count) -> {
+            if (count >= repeatedStatementThreshold) {
+                log.warn("{} issued the same statement {} times, likely an N+1: {}", scope, count, shape);
+            }
+        });
+    }
+
+    private class TransactionScope implements TransactionSynchronization {
+        private final String name;
+        private final QueryStatistics statistics = new QueryStatistics();
+
+        private TransactionScope(final String name) {
+            this.name = Objects.isNull(name) ? "transaction" : "transaction " + name;
+        }
+
+        @Override
+        public void afterCompletion(final int status) {
+            check(name, statistics, perTransaction);
+        }
+    }
+}
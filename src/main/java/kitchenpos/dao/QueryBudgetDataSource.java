@@ -0,0 +1,50 @@
+package kitchenpos.dao;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Reports every statement prepared on its connections to the {@link QueryBudget}. A batch counts once.
+ */
+public class QueryBudgetDataSource extends DelegatingDataSource {
+    private final QueryBudget queryBudget;
+
+    public QueryBudgetDataSource(final DataSource targetDataSource, final QueryBudget queryBudget) {
+        super(targetDataSource);
+        this.queryBudget = queryBudget;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return counting(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        return counting(super.getConnection(username, password));
+    }
+
+    private Connection counting(final Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    final String methodName = method.getName();
+                    if (methodName.equals("prepareStatement") || methodName.equals("prepareCall")) {
+                        queryBudget.record((String) args[0]);
+                    } else if (methodName.equals("createStatement")) {
+                        queryBudget.record(null);
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (final InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+}
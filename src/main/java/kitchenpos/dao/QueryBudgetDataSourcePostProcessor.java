@@ -0,0 +1,26 @@
+package kitchenpos.dao;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+@Component
+@ConditionalOnProperty(name = "kitchenpos.query-budget.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryBudgetDataSourcePostProcessor implements BeanPostProcessor {
+    private final ObjectProvider<QueryBudget> queryBudget;
+
+    public QueryBudgetDataSourcePostProcessor(final ObjectProvider<QueryBudget> queryBudget) {
+        this.queryBudget = queryBudget;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+        if (bean instanceof DataSource && !(bean instanceof QueryBudgetDataSource)) {
+            return new QueryBudgetDataSource((DataSource) bean, queryBudget.getObject());
+        }
+        return bean;
+    }
+}
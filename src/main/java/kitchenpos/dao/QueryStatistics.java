@@ -0,0 +1,48 @@
+package kitchenpos.dao;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * Statements issued within one scope, such as a request or a transaction. Only the owning thread records into it.
+ */
+public class QueryStatistics {
+    private static final String UNPREPARED = "<statement>";
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\?(\\s*,\\s*\\?)+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final Map<String, Integer> countsBySql = new HashMap<>();
+    private int count;
+
+    void record(final String sql) {
+        count++;
+        countsBySql.merge(Objects.isNull(sql) ? UNPREPARED : sql, 1, Integer::sum);
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Counts by statement shape, most frequent first. IN lists of any length count as the same shape.
+     */
+    public Map<String, Integer> countsByShape() {
+        final Map<String, Integer> countsByShape = new HashMap<>();
+        countsBySql.forEach((sql, sqlCount) -> countsByShape.merge(shape(sql), sqlCount, Integer::sum));
+
+        final Map<String, Integer> sorted = new LinkedHashMap<>();
+        countsByShape.entrySet()
+                .stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+        return sorted;
+    }
+
+    private static String shape(final String sql) {
+        final String singleLine = WHITESPACE.matcher(sql).replaceAll(" ").trim();
+        return PARAMETER_LIST.matcher(singleLine).replaceAll("?");
+    }
+}
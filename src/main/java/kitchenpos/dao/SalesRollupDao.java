@@ -0,0 +1,16 @@
+package kitchenpos.dao;
+
+import kitchenpos.domain.SalesRollup;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface SalesRollupDao {
+    void addAll(List<SalesRollup> deltas);
+
+    List<SalesRollup> sumByMenu(LocalDateTime from, LocalDateTime to);
+
+    List<SalesRollup> sumByMenuGroup(LocalDateTime from, LocalDateTime to);
+
+    List<SalesRollup> sumByHour(LocalDateTime from, LocalDateTime to);
+}
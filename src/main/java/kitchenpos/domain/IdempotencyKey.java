@@ -0,0 +1,33 @@
+package kitchenpos.domain;
+
+import java.time.LocalDateTime;
+
+public class IdempotencyKey {
+    private String key;
+    private Long orderId;
+    private LocalDateTime createdDate;
+
+    public String getKey() {
+        return key;
+    }
+
+    public void setKey(final String key) {
+        this.key = key;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public void setOrderId(final Long orderId) {
+        this.orderId = orderId;
+    }
+
+    public LocalDateTime getCreatedDate() {
+        return createdDate;
+    }
+
+    public void setCreatedDate(final LocalDateTime createdDate) {
+        this.createdDate = createdDate;
+    }
+}
@@ -0,0 +1,93 @@
+package kitchenpos.domain;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class OrderSearchCondition {
+    private List<String> orderStatuses;
+    private Long orderTableId;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime orderedTimeFrom;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime orderedTimeTo;
+    private OrderSortKey sort = OrderSortKey.ID;
+    private Long cursor;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime cursorOrderedTime;
+    private Integer size;
+    private boolean includeHistory;
+
+    public List<String> getOrderStatuses() {
+        return orderStatuses;
+    }
+
+    public void setOrderStatuses(final List<String> orderStatuses) {
+        this.orderStatuses = orderStatuses;
+    }
+
+    public Long getOrderTableId() {
+        return orderTableId;
+    }
+
+    public void setOrderTableId(final Long orderTableId) {
+        this.orderTableId = orderTableId;
+    }
+
+    public LocalDateTime getOrderedTimeFrom() {
+        return orderedTimeFrom;
+    }
+
+    public void setOrderedTimeFrom(final LocalDateTime orderedTimeFrom) {
+        this.orderedTimeFrom = orderedTimeFrom;
+    }
+
+    public LocalDateTime getOrderedTimeTo() {
+        return orderedTimeTo;
+    }
+
+    public void setOrderedTimeTo(final LocalDateTime orderedTimeTo) {
+        this.orderedTimeTo = orderedTimeTo;
+    }
+
+    public OrderSortKey getSort() {
+        return sort;
+    }
+
+    public void setSort(final OrderSortKey sort) {
+        this.sort = sort;
+    }
+
+    public Long getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(final Long cursor) {
+        this.cursor = cursor;
+    }
+
+    public LocalDateTime getCursorOrderedTime() {
+        return cursorOrderedTime;
+    }
+
+    public void setCursorOrderedTime(final LocalDateTime cursorOrderedTime) {
+        this.cursorOrderedTime = cursorOrderedTime;
+    }
+
+    public Integer getSize() {
+        return size;
+    }
+
+    public void setSize(final Integer size) {
+        this.size = size;
+    }
+
+    public boolean isIncludeHistory() {
+        return includeHistory;
+    }
+
+    public void setIncludeHistory(final boolean includeHistory) {
+        this.includeHistory = includeHistory;
+    }
+}
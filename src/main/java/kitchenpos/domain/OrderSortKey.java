@@ -0,0 +1,5 @@
+package kitchenpos.domain;
+
+public enum OrderSortKey {
+    ID, ORDERED_TIME
+}
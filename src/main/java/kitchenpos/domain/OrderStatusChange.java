@@ -0,0 +1,24 @@
+package kitchenpos.domain;
+
+import java.util.List;
+
+public class OrderStatusChange {
+    private List<Long> orderIds;
+    private String orderStatus;
+
+    public List<Long> getOrderIds() {
+        return orderIds;
+    }
+
+    public void setOrderIds(final List<Long> orderIds) {
+        this.orderIds = orderIds;
+    }
+
+    public String getOrderStatus() {
+        return orderStatus;
+    }
+
+    public void setOrderStatus(final String orderStatus) {
+        this.orderStatus = orderStatus;
+    }
+}
@@ -0,0 +1,34 @@
+package kitchenpos.domain;
+
+public class OrderStatusChangeResult {
+    private Long orderId;
+    private Outcome outcome;
+
+    public OrderStatusChangeResult() {
+    }
+
+    public OrderStatusChangeResult(final Long orderId, final Outcome outcome) {
+        this.orderId = orderId;
+        this.outcome = outcome;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public void setOrderId(final Long orderId) {
+        this.orderId = orderId;
+    }
+
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    public void setOutcome(final Outcome outcome) {
+        this.outcome = outcome;
+    }
+
+    public enum Outcome {
+        CHANGED, NOT_FOUND, ALREADY_COMPLETED
+    }
+}
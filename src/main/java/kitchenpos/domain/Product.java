@@ -1,11 +1,9 @@
 package kitchenpos.domain;
 
-import java.math.BigDecimal;
-
 public class Product {
     private Long id;
     private String name;
-    private BigDecimal price;
+    private Money price;
 
     public Long getId() {
         return id;
@@ -23,11 +21,11 @@ public class Product {
         this.name = name;
     }
 
-    public BigDecimal getPrice() {
+    public Money getPrice() {
         return price;
     }
 
-    public void setPrice(final BigDecimal price) {
+    public void setPrice(final Money price) {
         this.price = price;
     }
 }
@@ -0,0 +1,5 @@
+package kitchenpos.domain;
+
+public enum SalesReportGroup {
+    MENU, MENU_GROUP, HOUR
+}
@@ -0,0 +1,52 @@
+package kitchenpos.domain;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public class SalesRollup {
+    private Long menuId;
+    private Long menuGroupId;
+    private LocalDateTime salesHour;
+    private long quantity;
+    private BigDecimal revenue;
+
+    public Long getMenuId() {
+        return menuId;
+    }
+
+    public void setMenuId(final Long menuId) {
+        this.menuId = menuId;
+    }
+
+    public Long getMenuGroupId() {
+        return menuGroupId;
+    }
+
+    public void setMenuGroupId(final Long menuGroupId) {
+        this.menuGroupId = menuGroupId;
+    }
+
+    public LocalDateTime getSalesHour() {
+        return salesHour;
+    }
+
+    public void setSalesHour(final LocalDateTime salesHour) {
+        this.salesHour = salesHour;
+    }
+
+    public long getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(final long quantity) {
+        this.quantity = quantity;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+
+    public void setRevenue(final BigDecimal revenue) {
+        this.revenue = revenue;
+    }
+}
@@ -1,22 +1,32 @@
 package kitchenpos.ui;
 
 import kitchenpos.application.MenuGroupService;
+import kitchenpos.application.ResourceVersions;
+import kitchenpos.application.VersionedResource;
 import kitchenpos.domain.MenuGroup;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
-import java.util.List;
 
 @RestController
 public class MenuGroupRestController {
     private final MenuGroupService menuGroupService;
+    private final ResourceVersions resourceVersions;
+    private final SerializedResponseCache responseCache;
 
-    public MenuGroupRestController(final MenuGroupService menuGroupService) {
+    public MenuGroupRestController(
+            final MenuGroupService menuGroupService,
+            final ResourceVersions resourceVersions,
+            final SerializedResponseCache responseCache
+    ) {
         this.menuGroupService = menuGroupService;
+        this.resourceVersions = resourceVersions;
+        this.responseCache = responseCache;
     }
 
     @PostMapping("/api/menu-groups")
@@ -29,9 +39,8 @@ public class MenuGroupRestController {
     }
 
     @GetMapping("/api/menu-groups")
-    public ResponseEntity<List<MenuGroup>> list() {
-        return ResponseEntity.ok()
-                .body(menuGroupService.list())
-                ;
+    public ResponseEntity<byte[]> list(final WebRequest request) {
+        final String eTag = resourceVersions.eTag(VersionedResource.MENU_GROUPS);
+        return responseCache.get("menu-groups", eTag, request, menuGroupService::list);
     }
 }
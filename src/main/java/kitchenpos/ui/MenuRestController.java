@@ -1,22 +1,34 @@
 package kitchenpos.ui;
 
 import kitchenpos.application.MenuService;
+import kitchenpos.application.ResourceVersions;
+import kitchenpos.application.VersionedResource;
 import kitchenpos.domain.Menu;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
-import java.util.List;
+import java.util.Objects;
 
 @RestController
 public class MenuRestController {
     private final MenuService menuService;
+    private final ResourceVersions resourceVersions;
+    private final SerializedResponseCache responseCache;
 
-    public MenuRestController(final MenuService menuService) {
+    public MenuRestController(
+            final MenuService menuService,
+            final ResourceVersions resourceVersions,
+            final SerializedResponseCache responseCache
+    ) {
         this.menuService = menuService;
+        this.resourceVersions = resourceVersions;
+        this.responseCache = responseCache;
     }
 
     @PostMapping("/api/menus")
@@ -29,9 +41,15 @@ public class MenuRestController {
     }
 
     @GetMapping("/api/menus")
-    public ResponseEntity<List<Menu>> list() {
-        return ResponseEntity.ok()
-                .body(menuService.list())
-                ;
+    public ResponseEntity<byte[]> list(
+            @RequestParam(required = false) final Long menuGroupId,
+            final WebRequest request
+    ) {
+        final String eTag = resourceVersions.eTag(VersionedResource.MENUS);
+        if (Objects.isNull(menuGroupId)) {
+            return responseCache.get("menus", eTag, request, menuService::list);
+        }
+        final String key = "menus?menuGroupId=" + menuGroupId;
+        return responseCache.get(key, eTag, request, () -> menuService.list(menuGroupId));
     }
 }
@@ -0,0 +1,211 @@
+package kitchenpos.ui;
+
+import jakarta.annotation.PreDestroy;
+import kitchenpos.application.OrderEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pushes committed order events to kitchen and counter screens over Server-Sent Events.
+ * The buffer and the subscriber list are only touched on one dispatcher thread, so every subscriber sees events
+ * in id order. Writes happen on a fixed sender pool from a bounded queue per subscriber, and each subscriber is
+ * drained by at most one sender at a time. A stalled screen therefore ties up one sender thread, and only until the
+ * container's blocking write times out (Tomcat uses {@code server.tomcat.connection-timeout} for this); the send
+ * then fails and the screen is disconnected. A screen whose queue fills up first is disconnected as well. Either way
+ * it resumes with Last-Event-ID.
+ * <p>
+ * A subscriber whose Last-Event-ID is no longer covered by the replay buffer, or comes from a previous run,
+ * gets a {@value #RESET_EVENT_NAME} event instead of a partial replay and should reload from GET /api/orders.
+ */
+@Component
+public class OrderEventBroadcaster {
+    static final String RESET_EVENT_NAME = "reset";
+    static final int REPLAY_BUFFER_SIZE = 1_000;
+
+    private static final int SUBSCRIBER_QUEUE_SIZE = 2 * REPLAY_BUFFER_SIZE;
+    private static final long EMITTER_TIMEOUT_MILLIS = 30 * 60 * 1_000L;
+
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor(daemonThreads("order-event-dispatcher"));
+    private final ExecutorService senders;
+    private final Deque<IdentifiedOrderEvent> replayBuffer = new ArrayDeque<>();
+    private final List<Subscriber> subscribers = new ArrayList<>();
+    private long lastEventId;
+
+    public OrderEventBroadcaster(@Value("${kitchenpos.order-events.sender-threads:4}") final int senderThreads) {
+        this.senders = Executors.newFixedThreadPool(senderThreads, daemonThreads("order-event-sender"));
+    }
+
+    public SseEmitter subscribe(final Long lastSeenEventId) {
+        final Subscriber subscriber = new Subscriber(new SseEmitter(EMITTER_TIMEOUT_MILLIS));
+        subscriber.emitter.onCompletion(() -> dispatcher.execute(() -> subscribers.remove(subscriber)));
+        subscriber.emitter.onTimeout(subscriber.emitter::complete);
+        dispatcher.execute(() -> {
+            if (replay(subscriber, lastSeenEventId)) {
+                subscribers.add(subscriber);
+            }
+        });
+        return subscriber.emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(final OrderEvent event) {
+        dispatcher.execute(() -> broadcast(event));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        senders.shutdownNow();
+    }
+
+    private void broadcast(final OrderEvent event) {
+        final IdentifiedOrderEvent identifiedEvent = new IdentifiedOrderEvent(++lastEventId, event);
+
+        replayBuffer.addLast(identifiedEvent);
+        if (replayBuffer.size() > REPLAY_BUFFER_SIZE) {
+            replayBuffer.removeFirst();
+        }
+
+        subscribers.removeIf(subscriber -> !subscriber.offer(identifiedEvent.toSseEvent()));
+    }
+
+    private boolean replay(final Subscriber subscriber, final Long lastSeenEventId) {
+        if (Objects.isNull(lastSeenEventId) || lastSeenEventId == lastEventId) {
+            return true;
+        }
+        if (isMissingEventsSince(lastSeenEventId)) {
+            return subscriber.offer(SseEmitter.event()
+                    .id(String.valueOf(lastEventId))
+                    .name(RESET_EVENT_NAME)
+                    .data(RESET_EVENT_NAME));
+        }
+        for (final IdentifiedOrderEvent event : replayBuffer) {
+            if (event.id > lastSeenEventId && !subscriber.offer(event.toSseEvent())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Ids restart with the process, so an id from the future means the client saw a previous run.
+     */
+    private boolean isMissingEventsSince(final long lastSeenEventId) {
+        return lastSeenEventId > lastEventId
+                || replayBuffer.isEmpty()
+                || lastSeenEventId < replayBuffer.getFirst().id - 1;
+    }
+
+    private static ThreadFactory daemonThreads(final String name) {
+        return runnable -> {
+            final Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static boolean send(final SseEmitter emitter, final SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+            return true;
+        } catch (final IOException | IllegalStateException e) {
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    private class Subscriber {
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> pending = new ArrayBlockingQueue<>(SUBSCRIBER_QUEUE_SIZE);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean completed = new AtomicBoolean();
+        private volatile boolean closed;
+
+        Subscriber(final SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        /**
+         * Returns {@code false} once the subscriber is gone or too far behind; it is then closed.
+         */
+        boolean offer(final SseEmitter.SseEventBuilder event) {
+            if (closed) {
+                return false;
+            }
+            if (!pending.offer(event)) {
+                closed = true;
+                schedule();
+                return false;
+            }
+            schedule();
+            return true;
+        }
+
+        private void schedule() {
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEmitter.SseEventBuilder event;
+                while (!closed && Objects.nonNull(event = pending.poll())) {
+                    if (!send(emitter, event)) {
+                        completed.set(true);
+                        closed = true;
+                    }
+                }
+            } finally {
+                draining.set(false);
+                if (closed) {
+                    complete();
+                } else if (!pending.isEmpty()) {
+                    schedule();
+                }
+            }
+        }
+
+        /**
+         * Runs on the subscriber's own sender, never while another thread is blocked sending to the same emitter.
+         */
+        private void complete() {
+            if (completed.compareAndSet(false, true)) {
+                pending.clear();
+                emitter.complete();
+            }
+        }
+    }
+
+    private static class IdentifiedOrderEvent {
+        private final long id;
+        private final OrderEvent event;
+
+        IdentifiedOrderEvent(final long id, final OrderEvent event) {
+            this.id = id;
+            this.event = event;
+        }
+
+        SseEmitter.SseEventBuilder toSseEvent() {
+            return SseEmitter.event()
+                    .id(String.valueOf(id))
+                    .name(event.getType().getEventName())
+                    .data(event.getOrder());
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package kitchenpos.ui;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+public class OrderEventRestController {
+    private final OrderEventBroadcaster orderEventBroadcaster;
+
+    public OrderEventRestController(final OrderEventBroadcaster orderEventBroadcaster) {
+        this.orderEventBroadcaster = orderEventBroadcaster;
+    }
+
+    @GetMapping(value = "/api/orders/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@RequestHeader(value = "Last-Event-ID", required = false) final Long lastEventId) {
+        return orderEventBroadcaster.subscribe(lastEventId);
+    }
+}
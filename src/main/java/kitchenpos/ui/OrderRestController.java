@@ -1,34 +1,94 @@
 package kitchenpos.ui;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kitchenpos.application.IdempotentOrderIntake;
+import kitchenpos.application.OrderIntake;
 import kitchenpos.application.OrderService;
 import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderSearchCondition;
+import kitchenpos.domain.OrderStatusChange;
+import kitchenpos.domain.OrderStatusChangeResult;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @RestController
 public class OrderRestController {
+    private static final String NDJSON_VALUE = "application/x-ndjson";
+
     private final OrderService orderService;
+    private final OrderIntake orderIntake;
+    private final IdempotentOrderIntake idempotentOrderIntake;
+    private final ObjectMapper objectMapper;
 
-    public OrderRestController(final OrderService orderService) {
+    public OrderRestController(
+            final OrderService orderService,
+            final OrderIntake orderIntake,
+            final IdempotentOrderIntake idempotentOrderIntake,
+            final ObjectMapper objectMapper
+    ) {
         this.orderService = orderService;
+        this.orderIntake = orderIntake;
+        this.idempotentOrderIntake = idempotentOrderIntake;
+        this.objectMapper = objectMapper;
     }
 
+    /**
+     * Returns the {@link ResponseEntity} itself when the intake has already finished, as direct intake always has,
+     * and a {@link CompletableFuture} of it otherwise, so that only a pending group commit starts async processing.
+     */
     @PostMapping("/api/orders")
-    public ResponseEntity<Order> create(@RequestBody final Order order) {
-        final Order created = orderService.create(order);
-        final URI uri = URI.create("/api/orders/" + created.getId());
-        return ResponseEntity.created(uri)
-                .body(created)
-                ;
+    public Object create(
+            @RequestHeader(value = "Idempotency-Key", required = false) final String idempotencyKey,
+            @RequestBody final Order order
+    ) {
+        final CompletableFuture<Order> submitted = Objects.isNull(idempotencyKey)
+                ? orderIntake.submit(order)
+                : idempotentOrderIntake.submit(idempotencyKey, order);
+        if (!submitted.isDone()) {
+            return submitted.thenApply(this::created);
+        }
+        try {
+            return created(submitted.join());
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
     }
 
     @GetMapping("/api/orders")
-    public ResponseEntity<List<Order>> list() {
+    public ResponseEntity<List<Order>> list(final OrderSearchCondition condition) {
+        return ResponseEntity.ok()
+                .body(orderService.list(condition))
+                ;
+    }
+
+    @GetMapping(value = "/api/orders/export", produces = NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(defaultValue = "false") final boolean includeHistory
+    ) {
+        final StreamingResponseBody body = outputStream -> orderService.export(includeHistory, order -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(order));
+                outputStream.write('\n');
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
         return ResponseEntity.ok()
-                .body(orderService.list())
+                .contentType(MediaType.valueOf(NDJSON_VALUE))
+                .body(body)
                 ;
     }
 
@@ -39,4 +99,18 @@ public class OrderRestController {
     ) {
         return ResponseEntity.ok(orderService.changeOrderStatus(orderId, order));
     }
+
+    @PutMapping("/api/orders/order-status")
+    public ResponseEntity<List<OrderStatusChangeResult>> changeOrderStatuses(
+            @RequestBody final OrderStatusChange orderStatusChange
+    ) {
+        return ResponseEntity.ok(orderService.changeOrderStatuses(orderStatusChange));
+    }
+
+    private ResponseEntity<Order> created(final Order created) {
+        final URI uri = URI.create("/api/orders/" + created.getId());
+        return ResponseEntity.created(uri)
+                .body(created)
+                ;
+    }
 }
@@ -1,22 +1,34 @@
 package kitchenpos.ui;
 
 import kitchenpos.application.ProductService;
+import kitchenpos.application.ResourceVersions;
+import kitchenpos.application.VersionedResource;
 import kitchenpos.domain.Product;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
-import java.util.List;
 
 @RestController
 public class ProductRestController {
     private final ProductService productService;
+    private final ResourceVersions resourceVersions;
+    private final SerializedResponseCache responseCache;
 
-    public ProductRestController(final ProductService productService) {
+    public ProductRestController(
+            final ProductService productService,
+            final ResourceVersions resourceVersions,
+            final SerializedResponseCache responseCache
+    ) {
         this.productService = productService;
+        this.resourceVersions = resourceVersions;
+        this.responseCache = responseCache;
     }
 
     @PostMapping("/api/products")
@@ -29,9 +41,18 @@ public class ProductRestController {
     }
 
     @GetMapping("/api/products")
-    public ResponseEntity<List<Product>> list() {
+    public ResponseEntity<byte[]> list(final WebRequest request) {
+        final String eTag = resourceVersions.eTag(VersionedResource.PRODUCTS);
+        return responseCache.get("products", eTag, request, productService::list);
+    }
+
+    @PutMapping("/api/products/{productId}/price")
+    public ResponseEntity<Product> changePrice(
+            @PathVariable final Long productId,
+            @RequestBody final Product product
+    ) {
         return ResponseEntity.ok()
-                .body(productService.list())
+                .body(productService.changePrice(productId, product))
                 ;
     }
 }
@@ -0,0 +1,48 @@
+package kitchenpos.ui;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import kitchenpos.dao.QueryBudget;
+import kitchenpos.dao.QueryStatistics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Holds every request to the per-request statement budget. Requests are named by their mapping pattern.
+ */
+@Component
+@ConditionalOnProperty(name = "kitchenpos.query-budget.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryBudgetFilter extends OncePerRequestFilter {
+    private final QueryBudget queryBudget;
+
+    public QueryBudgetFilter(final QueryBudget queryBudget) {
+        this.queryBudget = queryBudget;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final FilterChain filterChain
+    ) throws ServletException, IOException {
+        final QueryStatistics statistics = queryBudget.open();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            queryBudget.close(statistics);
+            queryBudget.checkRequest(request.getMethod() + " " + path(request), statistics);
+        }
+    }
+
+    private static String path(final HttpServletRequest request) {
+        final Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return Objects.isNull(pattern) ? request.getRequestURI() : pattern.toString();
+    }
+}
@@ -0,0 +1,33 @@
+package kitchenpos.ui;
+
+import kitchenpos.application.SalesReportService;
+import kitchenpos.domain.SalesReportGroup;
+import kitchenpos.domain.SalesRollup;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+public class SalesReportRestController {
+    private final SalesReportService salesReportService;
+
+    public SalesReportRestController(final SalesReportService salesReportService) {
+        this.salesReportService = salesReportService;
+    }
+
+    @GetMapping("/api/reports/sales")
+    public ResponseEntity<List<SalesRollup>> report(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime to,
+            @RequestParam(defaultValue = "MENU") final SalesReportGroup groupBy
+    ) {
+        return ResponseEntity.ok()
+                .body(salesReportService.report(from, to, groupBy))
+                ;
+    }
+}
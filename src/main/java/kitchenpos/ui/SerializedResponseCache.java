@@ -0,0 +1,125 @@
+package kitchenpos.ui;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * JSON bodies of read-mostly endpoints, serialized once per resource version and served as bytes.
+ * An entry is rebuilt on the first read after its ETag changes; gzip-accepting clients get a pre-compressed copy.
+ * The encoding is negotiated before If-None-Match is checked, and the gzip copy has its own strong ETag,
+ * so a validator always names exactly one representation.
+ */
+@Component
+public class SerializedResponseCache {
+    private static final String GZIP = "gzip";
+    private static final String GZIP_ETAG_SUFFIX = "-gzip";
+
+    private final ObjectMapper objectMapper;
+    private final boolean gzipEnabled;
+    private final int maxEntries;
+    private final Map<String, SerializedResponse> responses = new ConcurrentHashMap<>();
+
+    public SerializedResponseCache(
+            final ObjectMapper objectMapper,
+            @Value("${kitchenpos.response-cache.gzip.enabled:true}") final boolean gzipEnabled,
+            @Value("${kitchenpos.response-cache.max-entries:256}") final int maxEntries
+    ) {
+        this.objectMapper = objectMapper;
+        this.gzipEnabled = gzipEnabled;
+        this.maxEntries = maxEntries;
+    }
+
+    public ResponseEntity<byte[]> get(
+            final String key,
+            final String eTag,
+            final WebRequest request,
+            final Supplier<?> bodySupplier
+    ) {
+        final boolean gzip = gzipEnabled && acceptsGzip(request);
+        if (request.checkNotModified(gzip ? eTag + GZIP_ETAG_SUFFIX : eTag)) {
+            return withVary(ResponseEntity.status(HttpStatus.NOT_MODIFIED)).build();
+        }
+
+        SerializedResponse response = responses.get(key);
+        if (Objects.isNull(response) || !response.eTag.equals(eTag)) {
+            response = serialize(eTag, bodySupplier.get());
+            if (responses.size() >= maxEntries) {
+                responses.clear();
+            }
+            responses.put(key, response);
+        }
+
+        final ResponseEntity.BodyBuilder builder = withVary(ResponseEntity.ok())
+                .contentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, GZIP)
+                    .body(response.gzippedJson);
+        }
+        return builder.body(response.json);
+    }
+
+    private ResponseEntity.BodyBuilder withVary(final ResponseEntity.BodyBuilder builder) {
+        if (gzipEnabled) {
+            builder.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        return builder;
+    }
+
+    private SerializedResponse serialize(final String eTag, final Object body) {
+        try {
+            final byte[] json = objectMapper.writeValueAsBytes(body);
+            return new SerializedResponse(eTag, json, gzipEnabled ? gzip(json) : null);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private byte[] gzip(final byte[] bytes) throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (final GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(bytes);
+        }
+        return outputStream.toByteArray();
+    }
+
+    private boolean acceptsGzip(final WebRequest request) {
+        final String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (Objects.isNull(acceptEncoding)) {
+            return false;
+        }
+        for (final String encoding : acceptEncoding.split(",")) {
+            final String[] parts = encoding.trim().split(";");
+            if (GZIP.equalsIgnoreCase(parts[0].trim())) {
+                return parts.length == 1 || !parts[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private static class SerializedResponse {
+        private final String eTag;
+        private final byte[] json;
+        private final byte[] gzippedJson;
+
+        SerializedResponse(final String eTag, final byte[] json, final byte[] gzippedJson) {
+            this.eTag = eTag;
+            this.json = json;
+            this.gzippedJson = gzippedJson;
+        }
+    }
+}
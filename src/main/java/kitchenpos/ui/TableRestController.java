@@ -1,9 +1,12 @@
 package kitchenpos.ui;
 
+import kitchenpos.application.ResourceVersions;
 import kitchenpos.application.TableService;
+import kitchenpos.application.VersionedResource;
 import kitchenpos.domain.OrderTable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
 import java.util.List;
@@ -11,9 +14,11 @@ import java.util.List;
 @RestController
 public class TableRestController {
     private final TableService tableService;
+    private final ResourceVersions resourceVersions;
 
-    public TableRestController(final TableService tableService) {
+    public TableRestController(final TableService tableService, final ResourceVersions resourceVersions) {
         this.tableService = tableService;
+        this.resourceVersions = resourceVersions;
     }
 
     @PostMapping("/api/tables")
@@ -26,7 +31,10 @@ public class TableRestController {
     }
 
     @GetMapping("/api/tables")
-    public ResponseEntity<List<OrderTable>> list() {
+    public ResponseEntity<List<OrderTable>> list(final WebRequest request) {
+        if (request.checkNotModified(resourceVersions.eTag(VersionedResource.TABLES))) {
+            return null;
+        }
         return ResponseEntity.ok()
                 .body(tableService.list())
                 ;
@@ -0,0 +1,7 @@
+ALTER TABLE menu_group ALTER COLUMN id RESTART WITH 5;
+
+ALTER TABLE product ALTER COLUMN id RESTART WITH 7;
+
+ALTER TABLE menu ALTER COLUMN id RESTART WITH 7;
+
+ALTER TABLE order_table ALTER COLUMN id RESTART WITH 9;
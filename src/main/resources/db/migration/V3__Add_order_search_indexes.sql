@@ -0,0 +1,5 @@
+CREATE INDEX ix_orders_order_status_id ON orders (order_status, id);
+
+CREATE INDEX ix_orders_order_table_id_id ON orders (order_table_id, id);
+
+CREATE INDEX ix_orders_ordered_time ON orders (ordered_time);
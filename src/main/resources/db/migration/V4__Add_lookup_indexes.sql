@@ -0,0 +1,7 @@
+CREATE INDEX ix_orders_order_table_id_order_status ON orders (order_table_id, order_status);
+
+CREATE INDEX ix_order_line_item_order_id ON order_line_item (order_id);
+
+CREATE INDEX ix_menu_product_menu_id ON menu_product (menu_id);
+
+CREATE INDEX ix_order_table_table_group_id ON order_table (table_group_id);
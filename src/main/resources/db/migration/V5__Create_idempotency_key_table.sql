@@ -0,0 +1,10 @@
+CREATE TABLE idempotency_key (
+    idempotency_key VARCHAR(255) NOT NULL,
+    order_id BIGINT NOT NULL,
+    created_date DATETIME NOT NULL,
+    PRIMARY KEY (idempotency_key)
+);
+
+ALTER TABLE idempotency_key
+    ADD CONSTRAINT fk_idempotency_key_orders
+        FOREIGN KEY (order_id) REFERENCES orders (id);
@@ -0,0 +1,27 @@
+CREATE TABLE orders_history (
+    id BIGINT NOT NULL,
+    order_table_id BIGINT NOT NULL,
+    order_status VARCHAR(255) NOT NULL,
+    ordered_time DATETIME NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE order_line_item_history (
+    seq BIGINT NOT NULL,
+    order_id BIGINT NOT NULL,
+    menu_id BIGINT NOT NULL,
+    quantity BIGINT NOT NULL,
+    PRIMARY KEY (seq)
+);
+
+CREATE INDEX ix_orders_history_order_status_id ON orders_history (order_status, id);
+
+CREATE INDEX ix_orders_history_order_table_id_id ON orders_history (order_table_id, id);
+
+CREATE INDEX ix_orders_history_ordered_time ON orders_history (ordered_time);
+
+CREATE INDEX ix_order_line_item_history_order_id ON order_line_item_history (order_id);
+
+CREATE INDEX ix_orders_order_status_ordered_time ON orders (order_status, ordered_time);
+
+CREATE INDEX ix_idempotency_key_order_id ON idempotency_key (order_id);
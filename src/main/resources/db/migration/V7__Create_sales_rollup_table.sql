@@ -0,0 +1,18 @@
+CREATE TABLE sales_rollup (
+    menu_id BIGINT NOT NULL,
+    sales_hour DATETIME NOT NULL,
+    menu_group_id BIGINT NOT NULL,
+    quantity BIGINT NOT NULL,
+    revenue DECIMAL(19, 2) NOT NULL,
+    PRIMARY KEY (menu_id, sales_hour)
+);
+
+CREATE INDEX ix_sales_rollup_sales_hour ON sales_rollup (sales_hour);
+
+INSERT INTO sales_rollup (menu_id, sales_hour, menu_group_id, quantity, revenue)
+SELECT oli.menu_id, DATE_TRUNC('HOUR', o.ordered_time), m.menu_group_id, SUM(oli.quantity), SUM(oli.quantity * m.price)
+FROM orders o
+    JOIN order_line_item oli ON oli.order_id = o.id
+    JOIN menu m ON m.id = oli.menu_id
+WHERE o.order_status = 'COMPLETION'
+GROUP BY oli.menu_id, DATE_TRUNC('HOUR', o.ordered_time), m.menu_group_id;
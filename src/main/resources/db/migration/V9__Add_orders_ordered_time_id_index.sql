@@ -0,0 +1,7 @@
+DROP INDEX ix_orders_ordered_time;
+
+CREATE INDEX ix_orders_ordered_time_id ON orders (ordered_time, id);
+
+DROP INDEX ix_orders_history_ordered_time;
+
+CREATE INDEX ix_orders_history_ordered_time_id ON orders_history (ordered_time, id);
@@ -0,0 +1,125 @@
+package kitchenpos;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import kitchenpos.application.ResourceVersions;
+import kitchenpos.application.TableService;
+import kitchenpos.dao.OrderTableDao;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.support.CommittedOrderTables;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class MethodMetricsPostProcessorTest {
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TableService tableService;
+
+    @Autowired
+    private OrderTableDao orderTableDao;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ResourceVersions resourceVersions;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Long> orderTableIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        CommittedOrderTables.delete(jdbcTemplate, resourceVersions, orderTableIds);
+    }
+
+    @Test
+    void servicesAndDaosAreTimed() {
+        final long serviceCount = timerCount(MethodMetricsPostProcessor.SERVICE_METRIC, "TableService", "list", "none");
+        final long daoCount = timerCount(MethodMetricsPostProcessor.DAO_METRIC, "JdbcTemplateOrderTableDao", "findById", "none");
+
+        tableService.list();
+        orderTableDao.findById(1L);
+
+        assertThat(timerCount(MethodMetricsPostProcessor.SERVICE_METRIC, "TableService", "list", "none"))
+                .isEqualTo(serviceCount + 1);
+        assertThat(timerCount(MethodMetricsPostProcessor.DAO_METRIC, "JdbcTemplateOrderTableDao", "findById", "none"))
+                .isEqualTo(daoCount + 1);
+    }
+
+    @Test
+    void failedCallsAreTaggedWithException() {
+        assertThatIllegalArgumentException().isThrownBy(() -> tableService.changeEmpty(0L, new OrderTable()));
+
+        assertThat(timerCount(MethodMetricsPostProcessor.SERVICE_METRIC, "TableService", "changeEmpty", "IllegalArgumentException"))
+                .isPositive();
+    }
+
+    @Test
+    void daoRowsAreCounted() {
+        final double read = counterCount(MethodMetricsPostProcessor.ROWS_READ_METRIC, "findAll");
+        final double written = counterCount(MethodMetricsPostProcessor.ROWS_WRITTEN_METRIC, "save");
+
+        final int rows = orderTableDao.findAll().size();
+        final OrderTable orderTable = new OrderTable();
+        orderTable.setEmpty(true);
+        orderTableIds.add(orderTableDao.save(orderTable).getId());
+
+        assertThat(counterCount(MethodMetricsPostProcessor.ROWS_READ_METRIC, "findAll")).isEqualTo(read + rows);
+        assertThat(counterCount(MethodMetricsPostProcessor.ROWS_WRITTEN_METRIC, "save")).isEqualTo(written + 1);
+    }
+
+    @Test
+    void prometheusEndpointExposesHistograms() throws Exception {
+        mockMvc.perform(get("/api/tables")).andExpect(status().isOk());
+
+        final String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThat(scrape)
+                .contains("http_server_requests_seconds_bucket{")
+                .contains("kitchenpos_service_seconds_bucket{class=\"TableService\"")
+                .contains("kitchenpos_dao_seconds_bucket{class=\"JdbcTemplateOrderTableDao\"")
+                .contains("kitchenpos_dao_rows_read_total{");
+    }
+
+    private long timerCount(final String name, final String className, final String method, final String exception) {
+        return meterRegistry.find(name)
+                .tags("class", className, "method", method, "exception", exception)
+                .timers()
+                .stream()
+                .mapToLong(timer -> timer.count())
+                .sum();
+    }
+
+    private double counterCount(final String name, final String method) {
+        return meterRegistry.find(name)
+                .tags("class", "JdbcTemplateOrderTableDao", "method", method)
+                .counters()
+                .stream()
+                .mapToDouble(counter -> counter.count())
+                .sum();
+    }
+}
@@ -0,0 +1,70 @@
+package kitchenpos.application;
+
+import kitchenpos.dao.OrderDao;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static kitchenpos.support.OrderFixtures.order;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class ActiveOrderIndexTest {
+    private ActiveOrderIndex activeOrderIndex;
+
+    @BeforeEach
+    void setUp() {
+        final OrderDao orderDao = mock(OrderDao.class);
+        given(orderDao.findAllByCondition(any())).willReturn(Collections.singletonList(order(1L)));
+        activeOrderIndex = new ActiveOrderIndex(orderDao);
+        activeOrderIndex.rebuild();
+    }
+
+    @Test
+    void rebuildLoadsActiveOrdersFromDatabase() {
+        assertThat(activeOrderIndex.hasActiveOrder(1L)).isTrue();
+        assertThat(activeOrderIndex.hasActiveOrder(2L)).isFalse();
+    }
+
+    @Test
+    void tableStaysActiveUntilEveryOrderIsClosed() {
+        activeOrderIndex.opened(2L);
+        activeOrderIndex.opened(2L);
+        activeOrderIndex.closed(2L);
+
+        assertThat(activeOrderIndex.hasActiveOrder(2L)).isTrue();
+
+        activeOrderIndex.closed(2L);
+
+        assertThat(activeOrderIndex.hasActiveOrder(2L)).isFalse();
+        assertThat(activeOrderIndex.hasActiveOrder(Arrays.asList(2L, 1L))).isTrue();
+    }
+
+    @Test
+    void openedOrderCountsBeforeCommitUntilRolledBack() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            activeOrderIndex.opened(3L);
+            activeOrderIndex.closed(1L);
+
+            assertThat(activeOrderIndex.hasActiveOrder(3L)).isTrue();
+            assertThat(activeOrderIndex.hasActiveOrder(1L)).isTrue();
+
+            TransactionSynchronizationUtils.invokeAfterCompletion(
+                    TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_ROLLED_BACK
+            );
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(activeOrderIndex.hasActiveOrder(3L)).isFalse();
+        assertThat(activeOrderIndex.hasActiveOrder(1L)).isTrue();
+    }
+}
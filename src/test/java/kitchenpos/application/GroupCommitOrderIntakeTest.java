@@ -0,0 +1,105 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.support.CommittedOrderTables;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static kitchenpos.support.OrderFixtures.order;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "kitchenpos.order-intake.group-commit.enabled=true",
+        "kitchenpos.order-intake.group-commit.max-wait-millis=50"
+})
+@AutoConfigureMockMvc
+class GroupCommitOrderIntakeTest {
+    @Autowired
+    private OrderIntake orderIntake;
+
+    @Autowired
+    private TableService tableService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ResourceVersions resourceVersions;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Long> orderTableIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        CommittedOrderTables.delete(jdbcTemplate, resourceVersions, orderTableIds);
+    }
+
+    @Test
+    void rejectedOrderDoesNotFailItsBatch() throws Exception {
+        final Long orderTableId = occupiedTable();
+
+        final CompletableFuture<Order> accepted = orderIntake.submit(order(orderTableId, 1L));
+        final CompletableFuture<Order> rejected = orderIntake.submit(order(orderTableId, Long.MAX_VALUE));
+        final CompletableFuture<Order> alsoAccepted = orderIntake.submit(order(orderTableId, 2L));
+
+        assertThat(accepted.get(5, TimeUnit.SECONDS).getId()).isNotNull();
+        assertThat(alsoAccepted.get(5, TimeUnit.SECONDS).getId()).isNotNull();
+        assertThatThrownBy(() -> rejected.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void continuationsDoNotRunOnWriterThread() throws Exception {
+        final Long orderTableId = occupiedTable();
+
+        final CompletableFuture<String> completedOn = orderIntake.submit(order(orderTableId, 1L))
+                .thenApply(savedOrder -> Thread.currentThread().getName());
+
+        assertThat(completedOn.get(5, TimeUnit.SECONDS)).isNotEqualTo("order-intake-writer");
+    }
+
+    @Test
+    void orderEndpointAnswersAfterBatchCommits() throws Exception {
+        final Long orderTableId = occupiedTable();
+
+        final MvcResult result = mockMvc.perform(post("/api/orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"orderTableId\": " + orderTableId + ", \"orderLineItems\": [{\"menuId\": 1, \"quantity\": 1}]}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isCreated());
+    }
+
+    private Long occupiedTable() {
+        final OrderTable orderTable = new OrderTable();
+        orderTable.setNumberOfGuests(2);
+        orderTable.setEmpty(false);
+        final Long orderTableId = tableService.create(orderTable).getId();
+        orderTableIds.add(orderTableId);
+        return orderTableId;
+    }
+}
@@ -0,0 +1,121 @@
+package kitchenpos.application;
+
+import kitchenpos.dao.IdempotencyKeyDao;
+import kitchenpos.dao.OrderTableDao;
+import kitchenpos.domain.IdempotencyKey;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderSearchCondition;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.support.CommittedOrderTables;
+import kitchenpos.support.Concurrency;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static kitchenpos.support.OrderFixtures.order;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class IdempotentOrderIntakeTest {
+    private static final int CONCURRENT_SUBMITS = 8;
+
+    @Autowired
+    private IdempotentOrderIntake idempotentOrderIntake;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderTableDao orderTableDao;
+
+    @Autowired
+    private IdempotencyKeyDao idempotencyKeyDao;
+
+    @Autowired
+    private ResourceVersions resourceVersions;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long orderTableId;
+    private String key;
+
+    @BeforeEach
+    void setUp() {
+        final OrderTable orderTable = new OrderTable();
+        orderTable.setNumberOfGuests(2);
+        orderTable.setEmpty(false);
+        orderTableId = orderTableDao.save(orderTable).getId();
+        key = UUID.randomUUID().toString();
+    }
+
+    @AfterEach
+    void tearDown() {
+        CommittedOrderTables.delete(jdbcTemplate, resourceVersions, Collections.singletonList(orderTableId));
+    }
+
+    @Test
+    void retryWithSameKeyReturnsStoredOrder() {
+        final Order first = idempotentOrderIntake.submit(key, order(orderTableId, 1L)).join();
+        final Order retried = idempotentOrderIntake.submit(key, order(orderTableId, 1L)).join();
+
+        assertThat(retried.getId()).isEqualTo(first.getId());
+        assertThat(ordersOnTable()).hasSize(1);
+    }
+
+    @Test
+    void concurrentSubmitsWithSameKeyCreateOneOrder() throws Exception {
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<CompletableFuture<Order>> submits = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_SUBMITS; i++) {
+            submits.add(CompletableFuture.supplyAsync(() -> {
+                Concurrency.await(start);
+                return idempotentOrderIntake.submit(key, order(orderTableId, 1L)).join();
+            }));
+        }
+        start.countDown();
+
+        final List<Long> orderIds = new ArrayList<>();
+        for (final CompletableFuture<Order> submit : submits) {
+            orderIds.add(submit.get(5, TimeUnit.SECONDS).getId());
+        }
+
+        assertThat(orderIds.stream().distinct().collect(Collectors.toList())).hasSize(1);
+        assertThat(ordersOnTable()).extracting(Order::getId).containsExactly(orderIds.get(0));
+    }
+
+    @Test
+    void keyIsCommittedWithOrder() {
+        final Order savedOrder = idempotentOrderIntake.submit(key, order(orderTableId, 1L)).join();
+
+        assertThat(idempotencyKeyDao.findById(key)).map(IdempotencyKey::getOrderId).hasValue(savedOrder.getId());
+    }
+
+    @Test
+    void keyIsNotStoredWhenOrderIsRejected() {
+        assertThatThrownBy(() -> idempotentOrderIntake.submit(key, order(orderTableId, Long.MAX_VALUE)).join())
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+
+        assertThat(idempotencyKeyDao.findById(key)).isEmpty();
+        assertThat(ordersOnTable()).isEmpty();
+    }
+
+    private List<Order> ordersOnTable() {
+        final OrderSearchCondition condition = new OrderSearchCondition();
+        condition.setOrderTableId(orderTableId);
+        return orderService.list(condition);
+    }
+}
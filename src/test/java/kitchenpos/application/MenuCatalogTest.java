@@ -0,0 +1,94 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.MenuGroup;
+import kitchenpos.support.RecordingDataSource;
+import kitchenpos.support.RecordingDataSourceConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Import(RecordingDataSourceConfiguration.class)
+class MenuCatalogTest {
+    private static final String COMMITTED_MENU_GROUP_NAME = "menu catalog test";
+
+    @Autowired
+    private MenuCatalog menuCatalog;
+
+    @Autowired
+    private MenuService menuService;
+
+    @Autowired
+    private MenuGroupService menuGroupService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM menu_group WHERE name = ?", COMMITTED_MENU_GROUP_NAME);
+        menuCatalog.changed(VersionedResource.MENU_GROUPS);
+    }
+
+    @Test
+    void listsAreServedFromSnapshotWithoutQueries() {
+        RecordingDataSource.clear();
+
+        assertThat(menuService.list()).isNotEmpty()
+                .allSatisfy(menu -> assertThat(menu.getMenuProducts()).isNotEmpty());
+        assertThat(productService.list()).isNotEmpty();
+        assertThat(menuGroupService.list()).isNotEmpty();
+        assertThat(RecordingDataSource.statements()).isEmpty();
+    }
+
+    @Test
+    void listFiltersMenusByMenuGroup() {
+        RecordingDataSource.clear();
+
+        assertThat(menuService.list(2L)).isNotEmpty()
+                .allSatisfy(menu -> assertThat(menu.getMenuGroupId()).isEqualTo(2L));
+        assertThat(menuService.list(0L)).isEmpty();
+        assertThat(RecordingDataSource.statements()).isEmpty();
+    }
+
+    @Test
+    void committedWriteSwapsSnapshot() {
+        final long version = menuCatalog.snapshot().getVersion();
+
+        final MenuGroup savedMenuGroup = menuGroupService.create(menuGroup(COMMITTED_MENU_GROUP_NAME));
+
+        assertThat(menuCatalog.snapshot().getVersion()).isGreaterThan(version);
+        assertThat(menuGroupService.list()).extracting(MenuGroup::getId).contains(savedMenuGroup.getId());
+    }
+
+    @Test
+    void rolledBackWriteKeepsSnapshot() {
+        final MenuCatalogSnapshot snapshot = menuCatalog.snapshot();
+
+        transactionTemplate.execute(status -> {
+            menuGroupService.create(menuGroup("rolled back"));
+            status.setRollbackOnly();
+            return null;
+        });
+
+        assertThat(menuCatalog.snapshot()).isSameAs(snapshot);
+    }
+
+    private MenuGroup menuGroup(final String name) {
+        final MenuGroup menuGroup = new MenuGroup();
+        menuGroup.setName(name);
+        return menuGroup;
+    }
+}
@@ -0,0 +1,92 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuProduct;
+import kitchenpos.domain.Money;
+import kitchenpos.domain.Product;
+import kitchenpos.support.Concurrency;
+import kitchenpos.support.Concurrency.Contention;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class MenuServiceConcurrencyTest {
+    @Autowired
+    private MenuService menuService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private MenuCatalog menuCatalog;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        product = productService.create(product(10_000));
+    }
+
+    @AfterEach
+    void tearDown() {
+        final List<Long> menuIds = jdbcTemplate.queryForList(
+                "SELECT menu_id FROM menu_product WHERE product_id = ?", Long.class, product.getId());
+        jdbcTemplate.update("DELETE FROM menu_product WHERE product_id = ?", product.getId());
+        menuIds.forEach(menuId -> jdbcTemplate.update("DELETE FROM menu WHERE id = ?", menuId));
+        jdbcTemplate.update("DELETE FROM product WHERE id = ?", product.getId());
+        menuCatalog.changed(VersionedResource.MENUS);
+        menuCatalog.changed(VersionedResource.PRODUCTS);
+    }
+
+    @Test
+    void priceChangeWaitsForMenuBeingCreated() throws Exception {
+        final Contention<Menu, Product> contention = Concurrency.contend(
+                transactionTemplate,
+                () -> menuService.create(menu(10_000)),
+                () -> productService.changePrice(product.getId(), product(5_000))
+        );
+
+        assertThat(contention.getHolder().get(5, TimeUnit.SECONDS).getId()).isNotNull();
+        assertThatThrownBy(() -> contention.getContender().get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Product product(final int price) {
+        final Product product = new Product();
+        product.setName("product");
+        product.setPrice(Money.of(price));
+        return product;
+    }
+
+    private Menu menu(final int price) {
+        final MenuProduct menuProduct = new MenuProduct();
+        menuProduct.setProductId(product.getId());
+        menuProduct.setQuantity(1);
+        final Menu menu = new Menu();
+        menu.setName("menu");
+        menu.setPrice(Money.of(price));
+        menu.setMenuGroupId(1L);
+        menu.setMenuProducts(Collections.singletonList(menuProduct));
+        return menu;
+    }
+}
@@ -0,0 +1,75 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuProduct;
+import kitchenpos.domain.Money;
+import kitchenpos.support.RecordingDataSource;
+import kitchenpos.support.RecordingDataSourceConfiguration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+@SpringBootTest
+@Import(RecordingDataSourceConfiguration.class)
+@Transactional
+class MenuServiceTest {
+    @Autowired
+    private MenuService menuService;
+
+    @Test
+    void createIssuesConstantNumberOfStatements() {
+        final int single = countStatements(() -> menuService.create(menu(1)));
+        final int many = countStatements(() -> menuService.create(menu(6)));
+
+        assertThat(many).isEqualTo(single);
+    }
+
+    @Test
+    void createReturnsSavedMenuProducts() {
+        final Menu savedMenu = menuService.create(menu(3));
+
+        assertThat(savedMenu.getMenuProducts()).hasSize(3)
+                .allSatisfy(menuProduct -> {
+                    assertThat(menuProduct.getSeq()).isNotNull();
+                    assertThat(menuProduct.getMenuId()).isEqualTo(savedMenu.getId());
+                });
+    }
+
+    @Test
+    void createRejectsUnknownProduct() {
+        final Menu menu = menu(1);
+        menu.getMenuProducts().get(0).setProductId(0L);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> menuService.create(menu));
+    }
+
+    private int countStatements(final Runnable runnable) {
+        RecordingDataSource.clear();
+        runnable.run();
+        return RecordingDataSource.statements().size();
+    }
+
+    private Menu menu(final int numberOfProducts) {
+        final List<MenuProduct> menuProducts = new ArrayList<>();
+        for (int i = 0; i < numberOfProducts; i++) {
+            final MenuProduct menuProduct = new MenuProduct();
+            menuProduct.setProductId((long) (i + 1));
+            menuProduct.setQuantity(1);
+            menuProducts.add(menuProduct);
+        }
+        final Menu menu = new Menu();
+        menu.setName("menu");
+        menu.setPrice(Money.of(16_000));
+        menu.setMenuGroupId(1L);
+        menu.setMenuProducts(menuProducts);
+        return menu;
+    }
+}
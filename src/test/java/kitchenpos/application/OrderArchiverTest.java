@@ -0,0 +1,67 @@
+package kitchenpos.application;
+
+import kitchenpos.dao.OrderTableDao;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderSearchCondition;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderTable;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static kitchenpos.support.OrderFixtures.order;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class OrderArchiverTest {
+    @Autowired
+    private OrderArchiver orderArchiver;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderTableDao orderTableDao;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void archiveMovesOldCompletedOrdersToHistory() {
+        final OrderTable orderTable = orderTableDao.findById(4L).get();
+        orderTable.setEmpty(false);
+        orderTableDao.save(orderTable);
+        final Order savedOrder = orderService.create(order(4L, 1L));
+        final Order completion = new Order();
+        completion.setOrderStatus(OrderStatus.COMPLETION.name());
+        orderService.changeOrderStatus(savedOrder.getId(), completion);
+        jdbcTemplate.update("UPDATE orders SET ordered_time = ? WHERE id = ?",
+                LocalDateTime.now().minusYears(1), savedOrder.getId());
+
+        orderArchiver.archive();
+
+        final OrderSearchCondition condition = new OrderSearchCondition();
+        condition.setOrderTableId(4L);
+        assertThat(orderService.list(condition)).isEmpty();
+        condition.setIncludeHistory(true);
+        assertThat(orderService.list(condition)).singleElement()
+                .satisfies(order -> assertThat(order.getOrderLineItems()).hasSize(1));
+        assertThat(exported(false)).extracting(Order::getId).doesNotContain(savedOrder.getId());
+        assertThat(exported(true)).filteredOn(order -> order.getId().equals(savedOrder.getId()))
+                .singleElement()
+                .satisfies(order -> assertThat(order.getOrderLineItems()).hasSize(1));
+    }
+
+    private List<Order> exported(final boolean includeHistory) {
+        final List<Order> exported = new ArrayList<>();
+        orderService.export(includeHistory, exported::add);
+        return exported;
+    }
+}
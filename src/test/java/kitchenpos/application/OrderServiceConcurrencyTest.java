@@ -0,0 +1,100 @@
+package kitchenpos.application;
+
+import kitchenpos.dao.OrderTableDao;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.domain.SalesReportGroup;
+import kitchenpos.domain.SalesRollup;
+import kitchenpos.support.CommittedOrderTables;
+import kitchenpos.support.Concurrency;
+import kitchenpos.support.Concurrency.Contention;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static kitchenpos.support.OrderFixtures.order;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class OrderServiceConcurrencyTest {
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderTableDao orderTableDao;
+
+    @Autowired
+    private ActiveOrderIndex activeOrderIndex;
+
+    @Autowired
+    private SalesReportService salesReportService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ResourceVersions resourceVersions;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long orderTableId;
+
+    @BeforeEach
+    void setUp() {
+        final OrderTable orderTable = new OrderTable();
+        orderTable.setNumberOfGuests(2);
+        orderTable.setEmpty(false);
+        orderTableId = orderTableDao.save(orderTable).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        CommittedOrderTables.delete(jdbcTemplate, resourceVersions, Collections.singletonList(orderTableId));
+    }
+
+    @Test
+    void concurrentCompletionsAreAppliedOnce() throws Exception {
+        final Order completing = orderService.create(order(orderTableId, 1L));
+        orderService.create(order(orderTableId, 1L));
+        final LocalDateTime from = completing.getOrderedTime().truncatedTo(ChronoUnit.HOURS);
+        final long quantityBefore = totalQuantity(from);
+
+        final Contention<Order, Order> contention = Concurrency.contend(
+                transactionTemplate,
+                () -> orderService.changeOrderStatus(completing.getId(), status(OrderStatus.COMPLETION)),
+                () -> orderService.changeOrderStatus(completing.getId(), status(OrderStatus.COMPLETION))
+        );
+
+        assertThat(contention.getHolder().get(5, TimeUnit.SECONDS).getOrderStatus()).isEqualTo(OrderStatus.COMPLETION.name());
+        assertThatThrownBy(() -> contention.getContender().get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+        assertThat(activeOrderIndex.hasActiveOrder(orderTableId)).isTrue();
+        assertThat(totalQuantity(from)).isEqualTo(quantityBefore + 1);
+    }
+
+    private long totalQuantity(final LocalDateTime from) {
+        return salesReportService.report(from, from.plusHours(1), SalesReportGroup.HOUR).stream()
+                .mapToLong(SalesRollup::getQuantity)
+                .sum();
+    }
+
+    private Order status(final OrderStatus orderStatus) {
+        final Order order = new Order();
+        order.setOrderStatus(orderStatus.name());
+        return order;
+    }
+}
@@ -0,0 +1,225 @@
+package kitchenpos.application;
+
+import kitchenpos.dao.OrderTableDao;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderSearchCondition;
+import kitchenpos.domain.OrderSortKey;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderStatusChange;
+import kitchenpos.domain.OrderStatusChangeResult;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.domain.SalesReportGroup;
+import kitchenpos.domain.SalesRollup;
+import kitchenpos.support.RecordingDataSource;
+import kitchenpos.support.RecordingDataSourceConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static kitchenpos.support.OrderFixtures.orderOfMenus;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+@SpringBootTest
+@Import(RecordingDataSourceConfiguration.class)
+@Transactional
+class OrderServiceTest {
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderTableDao orderTableDao;
+
+    @Autowired
+    private SalesReportService salesReportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        final OrderTable orderTable = orderTableDao.findById(1L).get();
+        orderTable.setEmpty(false);
+        orderTableDao.save(orderTable);
+    }
+
+    @Test
+    void createIssuesConstantNumberOfStatements() {
+        final int single = countStatements(() -> orderService.create(orderOfMenus(1L, 1)));
+        final int many = countStatements(() -> orderService.create(orderOfMenus(1L, 6)));
+
+        assertThat(many).isEqualTo(single);
+    }
+
+    @Test
+    void createReturnsSavedOrderLineItems() {
+        final Order savedOrder = orderService.create(orderOfMenus(1L, 3));
+
+        assertThat(savedOrder.getOrderLineItems()).hasSize(3)
+                .allSatisfy(orderLineItem -> {
+                    assertThat(orderLineItem.getSeq()).isNotNull();
+                    assertThat(orderLineItem.getOrderId()).isEqualTo(savedOrder.getId());
+                });
+    }
+
+    @Test
+    void listIssuesConstantNumberOfStatements() {
+        orderService.create(orderOfMenus(1L, 1));
+        final int single = countStatements(() -> orderService.list());
+        orderService.create(orderOfMenus(1L, 2));
+        orderService.create(orderOfMenus(1L, 3));
+        final int many = countStatements(() -> orderService.list());
+
+        assertThat(many).isEqualTo(single);
+    }
+
+    @Test
+    void listAssemblesOrderLineItemsPerOrder() {
+        final Order first = orderService.create(orderOfMenus(1L, 1));
+        final Order second = orderService.create(orderOfMenus(1L, 3));
+
+        final List<Order> orders = orderService.list();
+
+        assertThat(orders).filteredOn(order -> order.getId().equals(first.getId()))
+                .singleElement()
+                .satisfies(order -> assertThat(order.getOrderLineItems()).hasSize(1));
+        assertThat(orders).filteredOn(order -> order.getId().equals(second.getId()))
+                .singleElement()
+                .satisfies(order -> assertThat(order.getOrderLineItems()).hasSize(3));
+    }
+
+    @Test
+    void listPagesThroughOrdersWithCursor() {
+        final Order first = orderService.create(orderOfMenus(1L, 1));
+        final Order second = orderService.create(orderOfMenus(1L, 1));
+        final OrderSearchCondition condition = new OrderSearchCondition();
+        condition.setOrderTableId(1L);
+        condition.setOrderStatuses(Collections.singletonList(OrderStatus.COOKING.name()));
+        condition.setCursor(first.getId() - 1);
+        condition.setSize(1);
+
+        final List<Order> firstPage = orderService.list(condition);
+        condition.setCursor(firstPage.get(0).getId());
+        final List<Order> secondPage = orderService.list(condition);
+
+        assertThat(firstPage).extracting(Order::getId).containsExactly(first.getId());
+        assertThat(secondPage).extracting(Order::getId).containsExactly(second.getId());
+    }
+
+    @Test
+    void listPagesThroughOrdersByOrderedTime() {
+        final Order later = orderService.create(orderOfMenus(1L, 1));
+        final Order earlier = orderService.create(orderOfMenus(1L, 1));
+        final Order sameTime = orderService.create(orderOfMenus(1L, 1));
+        final LocalDateTime orderedTime = later.getOrderedTime().minusDays(1).truncatedTo(ChronoUnit.SECONDS);
+        jdbcTemplate.update("UPDATE orders SET ordered_time = ? WHERE id IN (?, ?)",
+                orderedTime, earlier.getId(), sameTime.getId());
+        final OrderSearchCondition condition = new OrderSearchCondition();
+        condition.setOrderTableId(1L);
+        condition.setSort(OrderSortKey.ORDERED_TIME);
+        condition.setOrderedTimeFrom(orderedTime);
+        condition.setSize(1);
+
+        final List<Long> orderIds = new ArrayList<>();
+        List<Order> page = orderService.list(condition);
+        while (!page.isEmpty()) {
+            final Order last = page.get(page.size() - 1);
+            orderIds.add(last.getId());
+            condition.setCursor(last.getId());
+            condition.setCursorOrderedTime(last.getOrderedTime());
+            page = orderService.list(condition);
+        }
+
+        assertThat(orderIds).containsSubsequence(earlier.getId(), sameTime.getId(), later.getId());
+    }
+
+    @Test
+    void listWithoutSizeReturnsDefaultPage() {
+        RecordingDataSource.clear();
+
+        orderService.list(new OrderSearchCondition());
+
+        assertThat(RecordingDataSource.statements()).first()
+                .satisfies(statement -> assertThat(statement.getSqlWithLiterals()).endsWith("LIMIT (100)"));
+    }
+
+    @Test
+    void listRejectsOrderedTimeCursorWithoutId() {
+        final OrderSearchCondition condition = new OrderSearchCondition();
+        condition.setSort(OrderSortKey.ORDERED_TIME);
+        condition.setCursorOrderedTime(LocalDateTime.now());
+
+        assertThatIllegalArgumentException().isThrownBy(() -> orderService.list(condition));
+    }
+
+    @Test
+    void exportStreamsOrdersWithOrderLineItems() {
+        final Order savedOrder = orderService.create(orderOfMenus(1L, 3));
+        final List<Order> exported = new ArrayList<>();
+
+        orderService.export(false, exported::add);
+
+        assertThat(exported).filteredOn(order -> order.getId().equals(savedOrder.getId()))
+                .singleElement()
+                .satisfies(order -> assertThat(order.getOrderLineItems()).hasSize(3));
+    }
+
+    @Test
+    void changeOrderStatusesReportsOutcomePerOrder() {
+        final Order cooking = orderService.create(orderOfMenus(1L, 1));
+        final Order completed = orderService.create(orderOfMenus(1L, 1));
+        orderService.changeOrderStatus(completed.getId(), status(OrderStatus.COMPLETION));
+        final OrderStatusChange orderStatusChange = new OrderStatusChange();
+        orderStatusChange.setOrderIds(Arrays.asList(cooking.getId(), completed.getId(), Long.MAX_VALUE));
+        orderStatusChange.setOrderStatus(OrderStatus.COMPLETION.name());
+
+        final List<OrderStatusChangeResult> results = orderService.changeOrderStatuses(orderStatusChange);
+
+        assertThat(results).extracting(OrderStatusChangeResult::getOutcome).containsExactly(
+                OrderStatusChangeResult.Outcome.CHANGED,
+                OrderStatusChangeResult.Outcome.ALREADY_COMPLETED,
+                OrderStatusChangeResult.Outcome.NOT_FOUND
+        );
+    }
+
+    @Test
+    void completionIsRolledUpIntoSalesReport() {
+        final Order savedOrder = orderService.create(orderOfMenus(1L, 2));
+        final LocalDateTime from = savedOrder.getOrderedTime().truncatedTo(ChronoUnit.HOURS);
+        final LocalDateTime to = from.plusHours(1);
+        final long quantityBefore = totalQuantity(from, to);
+
+        orderService.changeOrderStatus(savedOrder.getId(), status(OrderStatus.COMPLETION));
+
+        assertThat(totalQuantity(from, to)).isEqualTo(quantityBefore + 2);
+    }
+
+    private long totalQuantity(final LocalDateTime from, final LocalDateTime to) {
+        return salesReportService.report(from, to, SalesReportGroup.HOUR).stream()
+                .mapToLong(SalesRollup::getQuantity)
+                .sum();
+    }
+
+    private Order status(final OrderStatus orderStatus) {
+        final Order order = new Order();
+        order.setOrderStatus(orderStatus.name());
+        return order;
+    }
+
+    private int countStatements(final Runnable runnable) {
+        RecordingDataSource.clear();
+        runnable.run();
+        return RecordingDataSource.statements().size();
+    }
+}
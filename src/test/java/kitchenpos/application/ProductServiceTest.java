@@ -0,0 +1,82 @@
+package kitchenpos.application;
+
+import kitchenpos.dao.ProductDao;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuProduct;
+import kitchenpos.domain.Money;
+import kitchenpos.domain.Product;
+import kitchenpos.support.RecordingDataSource;
+import kitchenpos.support.RecordingDataSourceConfiguration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+@SpringBootTest
+@Import(RecordingDataSourceConfiguration.class)
+@Transactional
+class ProductServiceTest {
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private MenuService menuService;
+
+    @Autowired
+    private ProductDao productDao;
+
+    @Test
+    void changePriceUpdatesProduct() {
+        productService.changePrice(1L, price(18_000));
+
+        assertThat(productDao.findById(1L).get().getPrice()).isEqualTo(Money.of(18_000));
+    }
+
+    @Test
+    void changePriceRejectsPriceBelowContainingMenu() {
+        assertThatIllegalArgumentException().isThrownBy(() -> productService.changePrice(1L, price(15_000)));
+        assertThat(productDao.findById(1L).get().getPrice()).isEqualTo(Money.of(16_000));
+    }
+
+    @Test
+    void changePriceIssuesConstantNumberOfStatements() {
+        for (int i = 0; i < 5; i++) {
+            menuService.create(menu(2L));
+        }
+
+        final int single = countStatements(() -> productService.changePrice(1L, price(18_000)));
+        final int many = countStatements(() -> productService.changePrice(2L, price(18_000)));
+
+        assertThat(many).isEqualTo(single);
+    }
+
+    private int countStatements(final Runnable runnable) {
+        RecordingDataSource.clear();
+        runnable.run();
+        return RecordingDataSource.statements().size();
+    }
+
+    private Product price(final int price) {
+        final Product product = new Product();
+        product.setPrice(Money.of(price));
+        return product;
+    }
+
+    private Menu menu(final Long productId) {
+        final MenuProduct menuProduct = new MenuProduct();
+        menuProduct.setProductId(productId);
+        menuProduct.setQuantity(1);
+        final Menu menu = new Menu();
+        menu.setName("menu");
+        menu.setPrice(Money.of(16_000));
+        menu.setMenuGroupId(1L);
+        menu.setMenuProducts(Collections.singletonList(menuProduct));
+        return menu;
+    }
+}
@@ -0,0 +1,101 @@
+package kitchenpos.dao;
+
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.Money;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.support.RecordingDataSource;
+import kitchenpos.support.RecordingDataSourceConfiguration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Import(RecordingDataSourceConfiguration.class)
+@Transactional
+class JdbcTemplateDaoTest {
+    @Autowired
+    private MenuDao menuDao;
+
+    @Autowired
+    private OrderDao orderDao;
+
+    @Autowired
+    private OrderLineItemDao orderLineItemDao;
+
+    @Autowired
+    private OrderTableDao orderTableDao;
+
+    @Test
+    void saveIssuesSingleInsertAndReturnsPersistedRow() {
+        final Menu menu = new Menu();
+        menu.setName("fried+seasoned");
+        menu.setPrice(Money.ofMinorUnits(19_050));
+        menu.setMenuGroupId(1L);
+
+        RecordingDataSource.clear();
+        final Menu savedMenu = menuDao.save(menu);
+
+        assertThat(RecordingDataSource.statements()).hasSize(1);
+        assertThat(RecordingDataSource.statements().get(0).getSql()).startsWith("INSERT INTO menu ");
+        assertThat(menuDao.findById(savedMenu.getId()).get()).usingRecursiveComparison().isEqualTo(savedMenu);
+    }
+
+    @Test
+    void saveBindsNullableColumns() {
+        final OrderTable orderTable = new OrderTable();
+        orderTable.setNumberOfGuests(0);
+        orderTable.setEmpty(true);
+
+        final OrderTable savedOrderTable = orderTableDao.save(orderTable);
+
+        assertThat(savedOrderTable.getTableGroupId()).isNull();
+        assertThat(orderTableDao.findById(savedOrderTable.getId()).get())
+                .usingRecursiveComparison()
+                .isEqualTo(savedOrderTable);
+    }
+
+    @Test
+    void saveAllIssuesSingleBatchAndReturnsGeneratedKeysInOrder() {
+        final Order order = new Order();
+        order.setOrderTableId(1L);
+        order.setOrderStatus(OrderStatus.COOKING.name());
+        order.setOrderedTime(LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS));
+        final Order savedOrder = orderDao.save(order);
+        assertThat(orderDao.findById(savedOrder.getId()).get()).usingRecursiveComparison().isEqualTo(savedOrder);
+
+        final List<OrderLineItem> orderLineItems = Arrays.asList(
+                orderLineItem(savedOrder.getId(), 1L),
+                orderLineItem(savedOrder.getId(), 2L),
+                orderLineItem(savedOrder.getId(), 3L)
+        );
+
+        RecordingDataSource.clear();
+        final List<OrderLineItem> savedOrderLineItems = orderLineItemDao.saveAll(orderLineItems);
+
+        assertThat(RecordingDataSource.statements()).hasSize(1);
+        assertThat(savedOrderLineItems).extracting(OrderLineItem::getMenuId).containsExactly(1L, 2L, 3L);
+        assertThat(orderLineItemDao.findAllByOrderId(savedOrder.getId()))
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyInAnyOrderElementsOf(savedOrderLineItems);
+    }
+
+    private OrderLineItem orderLineItem(final Long orderId, final Long menuId) {
+        final OrderLineItem orderLineItem = new OrderLineItem();
+        orderLineItem.setOrderId(orderId);
+        orderLineItem.setMenuId(menuId);
+        orderLineItem.setQuantity(1);
+        return orderLineItem;
+    }
+}
@@ -0,0 +1,112 @@
+package kitchenpos.dao;
+
+import kitchenpos.application.OrderService;
+import kitchenpos.application.TableGroupService;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.domain.TableGroup;
+import kitchenpos.support.MaxQueries;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "kitchenpos.query-budget.per-request=0",
+        "kitchenpos.query-budget.per-transaction=2",
+        "kitchenpos.query-budget.repeated-statement-threshold=3"
+})
+@AutoConfigureMockMvc
+@ExtendWith(OutputCaptureExtension.class)
+class QueryBudgetTest {
+    @Autowired
+    private QueryBudget queryBudget;
+
+    @Autowired
+    private OrderTableDao orderTableDao;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private TableGroupService tableGroupService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @MaxQueries(2)
+    void orderListStaysWithinBudget() {
+        orderService.list();
+    }
+
+    @Test
+    @Transactional
+    @MaxQueries(4)
+    void tableGroupCreateStaysWithinBudget() {
+        tableGroupService.create(tableGroup(1L, 2L));
+    }
+
+    @Test
+    void scopeCountsStatementsByShape() {
+        final QueryStatistics statistics = queryBudget.open();
+        try {
+            orderTableDao.findAllByIdIn(Arrays.asList(1L, 2L));
+            orderTableDao.findAllByIdIn(Arrays.asList(1L, 2L, 3L));
+            orderTableDao.findById(1L);
+        } finally {
+            queryBudget.close(statistics);
+        }
+
+        assertThat(statistics.getCount()).isEqualTo(3);
+        assertThat(statistics.countsByShape().values()).containsExactly(2, 1);
+    }
+
+    @Test
+    void repeatedStatementInTransactionIsReported(final CapturedOutput output) {
+        transactionTemplate.execute(status -> {
+            for (long id = 1L; id <= 3L; id++) {
+                orderTableDao.findById(id);
+            }
+            return null;
+        });
+
+        assertThat(output)
+                .contains("issued 3 statements, over its budget of 2")
+                .contains("issued the same statement 3 times, likely an N+1");
+    }
+
+    @Test
+    void requestOverBudgetIsReported(final CapturedOutput output) throws Exception {
+        mockMvc.perform(get("/api/tables")).andExpect(status().isOk());
+
+        assertThat(output).contains("GET /api/tables issued 1 statements, over its budget of 0");
+    }
+
+    private TableGroup tableGroup(final Long... orderTableIds) {
+        final TableGroup tableGroup = new TableGroup();
+        tableGroup.setOrderTables(Arrays.stream(orderTableIds)
+                .map(id -> {
+                    final OrderTable orderTable = new OrderTable();
+                    orderTable.setId(id);
+                    return orderTable;
+                })
+                .collect(Collectors.toList()));
+        return tableGroup;
+    }
+}
@@ -0,0 +1,51 @@
+package kitchenpos.domain;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoneyTest {
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @Test
+    void arithmeticIsExact() {
+        final Money sum = Money.of(16_000).times(2).plus(Money.ofMinorUnits(50));
+
+        assertThat(sum).isEqualTo(Money.from(new BigDecimal("32000.5")));
+        assertThat(sum.toBigDecimal()).isEqualTo(new BigDecimal("32000.50"));
+        assertThat(sum.isGreaterThan(Money.of(32_000))).isTrue();
+        assertThat(Money.of(-1).isNegative()).isTrue();
+    }
+
+    @Test
+    void overflowIsRejected() {
+        assertThatThrownBy(() -> Money.ofMinorUnits(Long.MAX_VALUE).plus(Money.ofMinorUnits(1)))
+                .isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.ofMinorUnits(Long.MAX_VALUE / 2 + 1).times(2))
+                .isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.from(new BigDecimal("1e20")))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void fractionsBeyondMinorUnitsAreRejected() {
+        assertThatThrownBy(() -> Money.from(new BigDecimal("0.005")))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void jsonIsPlainNumber() throws Exception {
+        final Product product = objectMapper.readValue("{\"name\": \"fried\", \"price\": 19000}", Product.class);
+
+        assertThat(product.getPrice()).isEqualTo(Money.of(19_000));
+        assertThat(objectMapper.writeValueAsString(product)).contains("\"price\":19000.00");
+        assertThatThrownBy(() -> objectMapper.readValue("{\"price\": 0.001}", Product.class))
+                .isInstanceOf(JsonMappingException.class);
+    }
+}
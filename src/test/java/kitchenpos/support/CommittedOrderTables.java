@@ -0,0 +1,52 @@
+package kitchenpos.support;
+
+import kitchenpos.application.ResourceVersions;
+import kitchenpos.application.VersionedResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.util.Collection;
+
+/**
+ * Removes order tables that a test committed to the shared database, together with their orders.
+ * Completed orders are taken back out of sales_rollup first, so later tests see the seeded totals again.
+ */
+public final class CommittedOrderTables {
+    private static final String ORDERS_ON_TABLES = "SELECT id FROM orders WHERE order_table_id IN (:orderTableIds)";
+    private static final String SUBTRACT_SALES_SQL = "MERGE INTO sales_rollup (menu_id, sales_hour, menu_group_id, quantity, revenue)" +
+            " KEY (menu_id, sales_hour)" +
+            " SELECT r.menu_id, r.sales_hour, r.menu_group_id, r.quantity - s.quantity, r.revenue - s.revenue" +
+            " FROM sales_rollup r JOIN (" +
+            "SELECT oli.menu_id, DATE_TRUNC('HOUR', o.ordered_time) AS sales_hour," +
+            " SUM(oli.quantity) AS quantity, SUM(oli.quantity * m.price) AS revenue" +
+            " FROM orders o" +
+            " JOIN order_line_item oli ON oli.order_id = o.id" +
+            " JOIN menu m ON m.id = oli.menu_id" +
+            " WHERE o.order_status = 'COMPLETION' AND o.order_table_id IN (:orderTableIds)" +
+            " GROUP BY oli.menu_id, DATE_TRUNC('HOUR', o.ordered_time)" +
+            ") s ON s.menu_id = r.menu_id AND s.sales_hour = r.sales_hour";
+
+    private CommittedOrderTables() {
+    }
+
+    public static void delete(
+            final JdbcTemplate jdbcTemplate,
+            final ResourceVersions resourceVersions,
+            final Collection<Long> orderTableIds
+    ) {
+        if (orderTableIds.isEmpty()) {
+            return;
+        }
+        final NamedParameterJdbcTemplate namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        final SqlParameterSource parameters = new MapSqlParameterSource("orderTableIds", orderTableIds);
+        namedJdbcTemplate.update(SUBTRACT_SALES_SQL, parameters);
+        jdbcTemplate.update("DELETE FROM sales_rollup WHERE quantity = 0");
+        namedJdbcTemplate.update("DELETE FROM idempotency_key WHERE order_id IN (" + ORDERS_ON_TABLES + ")", parameters);
+        namedJdbcTemplate.update("DELETE FROM order_line_item WHERE order_id IN (" + ORDERS_ON_TABLES + ")", parameters);
+        namedJdbcTemplate.update("DELETE FROM orders WHERE order_table_id IN (:orderTableIds)", parameters);
+        namedJdbcTemplate.update("DELETE FROM order_table WHERE id IN (:orderTableIds)", parameters);
+        resourceVersions.changed(VersionedResource.TABLES);
+    }
+}
@@ -0,0 +1,93 @@
+package kitchenpos.support;
+
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+public final class Concurrency {
+    public static final long TIMEOUT_SECONDS = 5;
+
+    private static final Set<Thread.State> BLOCKED_STATES = EnumSet.of(
+            Thread.State.BLOCKED, Thread.State.WAITING, Thread.State.TIMED_WAITING
+    );
+
+    private Concurrency() {
+    }
+
+    public static void await(final CountDownLatch latch) {
+        try {
+            latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Runs {@code holder} in a transaction and, before it commits, starts {@code contender} on a thread of its own.
+     * The holder's transaction commits only once the contender has finished or its thread is blocked, as it is while
+     * waiting for a row lock that the holder took.
+     */
+    public static <T, U> Contention<T, U> contend(
+            final TransactionTemplate transactionTemplate,
+            final Supplier<T> holder,
+            final Supplier<U> contender
+    ) throws InterruptedException {
+        final CountDownLatch held = new CountDownLatch(1);
+        final CountDownLatch contended = new CountDownLatch(1);
+        final CompletableFuture<T> holding = CompletableFuture.supplyAsync(() -> transactionTemplate.execute(status -> {
+            final T result = holder.get();
+            held.countDown();
+            await(contended);
+            return result;
+        }));
+        if (!held.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            throw new AssertionError("holder did not finish its work");
+        }
+
+        final CompletableFuture<U> contending = new CompletableFuture<>();
+        final Thread contenderThread = new Thread(() -> {
+            try {
+                contending.complete(contender.get());
+            } catch (final RuntimeException e) {
+                contending.completeExceptionally(e);
+            }
+        }, "contender");
+        contenderThread.start();
+        awaitBlocked(contenderThread, contending);
+        contended.countDown();
+        return new Contention<>(holding, contending);
+    }
+
+    private static void awaitBlocked(final Thread thread, final CompletableFuture<?> result) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (!result.isDone() && !BLOCKED_STATES.contains(thread.getState())) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("contender neither finished nor blocked");
+            }
+            Thread.sleep(1);
+        }
+    }
+
+    public static class Contention<T, U> {
+        private final CompletableFuture<T> holder;
+        private final CompletableFuture<U> contender;
+
+        Contention(final CompletableFuture<T> holder, final CompletableFuture<U> contender) {
+            this.holder = holder;
+            this.contender = contender;
+        }
+
+        public CompletableFuture<T> getHolder() {
+            return holder;
+        }
+
+        public CompletableFuture<U> getContender() {
+            return contender;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package kitchenpos.support;
+
+import kitchenpos.dao.QueryBudget;
+import kitchenpos.dao.QueryStatistics;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+public class MaxQueriesExtension implements BeforeEachCallback, AfterEachCallback {
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(MaxQueriesExtension.class);
+
+    @Override
+    public void beforeEach(final ExtensionContext context) {
+        context.getStore(NAMESPACE).put(context.getUniqueId(), queryBudget(context).open());
+    }
+
+    @Override
+    public void afterEach(final ExtensionContext context) {
+        final QueryStatistics statistics = context.getStore(NAMESPACE).remove(context.getUniqueId(), QueryStatistics.class);
+        queryBudget(context).close(statistics);
+
+        final int maxQueries = context.getRequiredTestMethod().getAnnotation(MaxQueries.class).value();
+        if (statistics.getCount() > maxQueries) {
+            throw new AssertionError(String.format(
+                    "Expected at most %d statements but %d were issued: %s",
+                    maxQueries, statistics.getCount(), statistics.countsByShape()
+            ));
+        }
+    }
+
+    private static QueryBudget queryBudget(final ExtensionContext context) {
+        return SpringExtension.getApplicationContext(context).getBean(QueryBudget.class);
+    }
+}
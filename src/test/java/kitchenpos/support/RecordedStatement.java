@@ -0,0 +1,50 @@
+package kitchenpos.support;
+
+import java.time.temporal.TemporalAccessor;
+import java.util.Date;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+public class RecordedStatement {
+    private final String sql;
+    private final Map<Integer, Object> parameters = new TreeMap<>();
+
+    RecordedStatement(final String sql) {
+        this.sql = sql;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    public synchronized String getSqlWithLiterals() {
+        final StringBuilder builder = new StringBuilder();
+        int index = 1;
+        for (final char character : sql.toCharArray()) {
+            if (character == '?') {
+                builder.append(toLiteral(parameters.get(index++)));
+            } else {
+                builder.append(character);
+            }
+        }
+        return builder.toString();
+    }
+
+    synchronized void addParameter(final int index, final Object value) {
+        parameters.putIfAbsent(index, value);
+    }
+
+    private String toLiteral(final Object value) {
+        if (Objects.isNull(value)) {
+            return "NULL";
+        }
+        if (value instanceof Number || value instanceof Boolean) {
+            return value.toString();
+        }
+        if (value instanceof TemporalAccessor || value instanceof Date) {
+            return "TIMESTAMP '" + value.toString().replace('T', ' ') + "'";
+        }
+        return "'" + value.toString().replace("'", "''") + "'";
+    }
+}
@@ -0,0 +1,74 @@
+package kitchenpos.support;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+public class RecordingDataSource extends DelegatingDataSource {
+    private static final List<RecordedStatement> STATEMENTS = Collections.synchronizedList(new ArrayList<>());
+
+    public RecordingDataSource(final DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    public static void clear() {
+        STATEMENTS.clear();
+    }
+
+    public static List<RecordedStatement> statements() {
+        synchronized (STATEMENTS) {
+            return new ArrayList<>(STATEMENTS);
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        final Connection connection = super.getConnection();
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    final Object result = invoke(method, connection, args);
+                    if (method.getName().equals("prepareStatement")) {
+                        return recording((PreparedStatement) result, (String) args[0]);
+                    }
+                    if (method.getName().equals("createStatement") || method.getName().equals("prepareCall")) {
+                        STATEMENTS.add(new RecordedStatement(null));
+                    }
+                    return result;
+                });
+    }
+
+    private PreparedStatement recording(final PreparedStatement statement, final String sql) {
+        final RecordedStatement recordedStatement = new RecordedStatement(sql);
+        STATEMENTS.add(recordedStatement);
+        return (PreparedStatement) Proxy.newProxyInstance(
+                PreparedStatement.class.getClassLoader(),
+                new Class<?>[]{PreparedStatement.class},
+                (proxy, method, args) -> {
+                    if (method.getName().startsWith("set") && Objects.nonNull(args) && args.length >= 2
+                            && args[0] instanceof Integer) {
+                        recordedStatement.addParameter((Integer) args[0], method.getName().equals("setNull") ? null : args[1]);
+                    }
+                    return invoke(method, statement, args);
+                });
+    }
+
+    private static Object invoke(final Method method, final Object target, final Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (final InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package kitchenpos.support;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+
+@TestConfiguration
+public class RecordingDataSourceConfiguration {
+    @Bean
+    public static BeanPostProcessor recordingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+                if (bean instanceof DataSource && !(bean instanceof RecordingDataSource)) {
+                    return new RecordingDataSource((DataSource) bean);
+                }
+                return bean;
+            }
+        };
+    }
+}
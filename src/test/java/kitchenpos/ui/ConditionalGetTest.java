@@ -0,0 +1,108 @@
+package kitchenpos.ui;
+
+import kitchenpos.application.MenuCatalog;
+import kitchenpos.application.VersionedResource;
+import kitchenpos.support.RecordingDataSource;
+import kitchenpos.support.RecordingDataSourceConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(RecordingDataSourceConfiguration.class)
+class ConditionalGetTest {
+    private static final String COMMITTED_MENU_GROUP_NAME = "conditional get test";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MenuCatalog menuCatalog;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM menu_group WHERE name = ?", COMMITTED_MENU_GROUP_NAME);
+        menuCatalog.changed(VersionedResource.MENU_GROUPS);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/api/products", "/api/menus", "/api/menu-groups", "/api/tables"})
+    void matchingETagIsAnsweredWithoutQueries(final String uri) throws Exception {
+        final String eTag = eTag(uri);
+
+        RecordingDataSource.clear();
+        mockMvc.perform(get(uri).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag));
+
+        assertThat(RecordingDataSource.statements()).isEmpty();
+    }
+
+    @Test
+    void gzipResponseIsRevalidatedWithItsOwnETag() throws Exception {
+        final String eTag = eTag("/api/products");
+        final String gzipETag = mockMvc.perform(get("/api/products").header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        assertThat(gzipETag).isNotEqualTo(eTag);
+        mockMvc.perform(get("/api/products")
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/products")
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .header(HttpHeaders.IF_NONE_MATCH, gzipETag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, gzipETag))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING));
+    }
+
+    @Test
+    void committedWriteChangesETag() throws Exception {
+        final String eTag = eTag("/api/menu-groups");
+
+        mockMvc.perform(post("/api/menu-groups")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"" + COMMITTED_MENU_GROUP_NAME + "\"}"))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/menu-groups").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk());
+        assertThat(eTag("/api/menu-groups")).isNotEqualTo(eTag);
+    }
+
+    private String eTag(final String uri) throws Exception {
+        final List<String> eTags = mockMvc.perform(get(uri))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeaders(HttpHeaders.ETAG);
+        assertThat(eTags).singleElement().asString().startsWith("\"");
+        return eTags.get(0);
+    }
+}
@@ -0,0 +1,200 @@
+package kitchenpos.ui;
+
+import kitchenpos.application.OrderEvent;
+import kitchenpos.application.OrderEventType;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static kitchenpos.support.OrderFixtures.savedOrder;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"kitchenpos.order-events.sender-threads=1", "server.tomcat.connection-timeout=1s"}
+)
+@AutoConfigureMockMvc
+class OrderEventBroadcasterTest {
+    private static final AtomicLong ORDER_IDS = new AtomicLong(1_000_000_000L);
+    private static final long TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OrderEventBroadcaster orderEventBroadcaster;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void resumesAfterLastEventIdInOrder() throws Exception {
+        final MvcResult live = subscribe(null);
+        final long first = publish();
+        final long second = publish();
+        final long third = publish();
+        final long firstEventId = eventIdOf(live, first);
+        awaitContent(live, third);
+
+        final MvcResult resumed = subscribe(firstEventId);
+        final String content = awaitContent(resumed, third);
+
+        assertThat(content).doesNotContain(marker(first));
+        assertThat(content.indexOf(marker(second))).isLessThan(content.indexOf(marker(third)));
+        assertThat(content).doesNotContain("event:" + OrderEventBroadcaster.RESET_EVENT_NAME);
+    }
+
+    @Test
+    void resumingBeyondReplayBufferSendsReset() throws Exception {
+        final MvcResult live = subscribe(null);
+        final long evicted = publish();
+        final long evictedEventId = eventIdOf(live, evicted);
+        long last = evicted;
+        for (int i = 0; i < OrderEventBroadcaster.REPLAY_BUFFER_SIZE; i++) {
+            last = publish();
+        }
+        awaitContent(live, last);
+
+        final MvcResult resumed = subscribe(evictedEventId - 1);
+        final String content = awaitContent(resumed, "event:" + OrderEventBroadcaster.RESET_EVENT_NAME);
+
+        assertThat(content).doesNotContain("event:" + OrderEventType.ORDER_CREATED.getEventName());
+    }
+
+    @Test
+    void rolledBackChangesAreNotPublished() throws Exception {
+        final MvcResult live = subscribe(null);
+        final long rolledBack = ORDER_IDS.incrementAndGet();
+        transactionTemplate.executeWithoutResult(status -> {
+            eventPublisher.publishEvent(new OrderEvent(OrderEventType.ORDER_CREATED, savedOrder(rolledBack, 1L, OrderStatus.COOKING)));
+            status.setRollbackOnly();
+        });
+        final long committed = ORDER_IDS.incrementAndGet();
+        transactionTemplate.executeWithoutResult(
+                status -> eventPublisher.publishEvent(new OrderEvent(OrderEventType.ORDER_CREATED, savedOrder(committed, 1L, OrderStatus.COOKING)))
+        );
+
+        assertThat(awaitContent(live, committed)).doesNotContain(marker(rolledBack));
+    }
+
+    @Test
+    void stalledSubscriberReleasesItsSender() throws Exception {
+        try (Socket stalled = new Socket()) {
+            stalled.setReceiveBufferSize(1_024);
+            stalled.setSoTimeout((int) TimeUnit.NANOSECONDS.toMillis(TIMEOUT_NANOS));
+            stalled.connect(new InetSocketAddress("localhost", port));
+            stalled.getOutputStream().write(
+                    "GET /api/orders/events HTTP/1.1\r\nHost: localhost\r\nLast-Event-ID: -1\r\n\r\n"
+                            .getBytes(StandardCharsets.US_ASCII)
+            );
+            awaitReset(stalled.getInputStream());
+            for (int i = 0; i < 60; i++) {
+                orderEventBroadcaster.on(new OrderEvent(OrderEventType.ORDER_CREATED, largeOrder()));
+            }
+
+            final MvcResult live = subscribe(null);
+            final long marker = publish();
+
+            awaitContent(live, marker);
+        }
+    }
+
+    private MvcResult subscribe(final Long lastEventId) throws Exception {
+        final MockHttpServletRequestBuilder request = get("/api/orders/events");
+        if (Objects.nonNull(lastEventId)) {
+            request.header("Last-Event-ID", lastEventId);
+        }
+        return mockMvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    private long publish() {
+        final long orderId = ORDER_IDS.incrementAndGet();
+        orderEventBroadcaster.on(new OrderEvent(OrderEventType.ORDER_CREATED, savedOrder(orderId, 1L, OrderStatus.COOKING)));
+        return orderId;
+    }
+
+    private long eventIdOf(final MvcResult result, final long orderId) throws Exception {
+        final String content = awaitContent(result, orderId);
+        final Matcher matcher = Pattern.compile("id:(\\d+)\nevent:[^\n]+\ndata:[^\n]*" + Pattern.quote(marker(orderId)))
+                .matcher(content);
+        assertThat(matcher.find()).isTrue();
+        return Long.parseLong(matcher.group(1));
+    }
+
+    private String awaitContent(final MvcResult result, final long orderId) throws Exception {
+        return awaitContent(result, marker(orderId));
+    }
+
+    private String awaitContent(final MvcResult result, final String expected) throws Exception {
+        final long deadline = System.nanoTime() + TIMEOUT_NANOS;
+        String content = result.getResponse().getContentAsString();
+        while (!content.contains(expected) && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+            content = result.getResponse().getContentAsString();
+        }
+        assertThat(content).contains(expected);
+        return content;
+    }
+
+    /**
+     * A Last-Event-ID that was never handed out is always answered with a reset, which shows the stream is registered.
+     */
+    private static void awaitReset(final InputStream inputStream) throws IOException {
+        final StringBuilder received = new StringBuilder();
+        int read;
+        while (received.indexOf("event:" + OrderEventBroadcaster.RESET_EVENT_NAME) < 0 && (read = inputStream.read()) >= 0) {
+            received.append((char) read);
+        }
+        assertThat(received).startsWith("HTTP/1.1 200");
+    }
+
+    private static Order largeOrder() {
+        final List<OrderLineItem> orderLineItems = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            final OrderLineItem orderLineItem = new OrderLineItem();
+            orderLineItem.setMenuId(1L);
+            orderLineItem.setQuantity(1);
+            orderLineItems.add(orderLineItem);
+        }
+        final Order order = savedOrder(ORDER_IDS.incrementAndGet(), 1L, OrderStatus.COOKING);
+        order.setOrderLineItems(orderLineItems);
+        return order;
+    }
+
+    private static String marker(final long orderId) {
+        return "\"id\":" + orderId + ",";
+    }
+}
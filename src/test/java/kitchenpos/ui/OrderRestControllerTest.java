@@ -0,0 +1,58 @@
+package kitchenpos.ui;
+
+import kitchenpos.dao.OrderTableDao;
+import kitchenpos.domain.OrderTable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class OrderRestControllerTest {
+    private static final String ORDER = "{\"orderTableId\": 1, \"orderLineItems\": [{\"menuId\": 1, \"quantity\": 1}]}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OrderTableDao orderTableDao;
+
+    @BeforeEach
+    void setUp() {
+        final OrderTable orderTable = orderTableDao.findById(1L).get();
+        orderTable.setEmpty(false);
+        orderTableDao.save(orderTable);
+    }
+
+    @Test
+    void directIntakeAnswersWithoutAsyncDispatch() throws Exception {
+        mockMvc.perform(post("/api/orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(ORDER))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isCreated())
+                .andExpect(header().exists("Location"))
+                .andExpect(jsonPath("$.orderStatus").value("COOKING"));
+    }
+
+    @Test
+    void directIntakeRejectionIsNotWrapped() {
+        assertThatThrownBy(() -> mockMvc.perform(post("/api/orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"orderTableId\": 1, \"orderLineItems\": []}")))
+                .hasCauseExactlyInstanceOf(IllegalArgumentException.class);
+    }
+}
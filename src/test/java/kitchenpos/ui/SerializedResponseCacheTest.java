@@ -0,0 +1,102 @@
+package kitchenpos.ui;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SerializedResponseCacheTest {
+    private final SerializedResponseCache responseCache = new SerializedResponseCache(new ObjectMapper(), true, 2);
+    private final AtomicInteger serializations = new AtomicInteger();
+    private final Supplier<Object> body = () -> {
+        serializations.incrementAndGet();
+        return Arrays.asList("fried", "seasoned");
+    };
+
+    @Test
+    void bodyIsSerializedOncePerETag() {
+        final ResponseEntity<byte[]> first = responseCache.get("key", "v1", request(null), body);
+        final ResponseEntity<byte[]> second = responseCache.get("key", "v1", request(null), body);
+
+        assertThat(second.getBody()).isSameAs(first.getBody());
+        assertThat(new String(first.getBody())).isEqualTo("[\"fried\",\"seasoned\"]");
+        assertThat(serializations).hasValue(1);
+
+        responseCache.get("key", "v2", request(null), body);
+
+        assertThat(serializations).hasValue(2);
+    }
+
+    @Test
+    void gzipIsServedOnlyWhenAccepted() throws IOException {
+        final ResponseEntity<byte[]> plain = responseCache.get("key", "v1", request("identity"), body);
+        final ResponseEntity<byte[]> gzipped = responseCache.get("key", "v1", request("br, gzip;q=0.8"), body);
+        final ResponseEntity<byte[]> refused = responseCache.get("key", "v1", request("gzip;q=0"), body);
+
+        assertThat(plain.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+        assertThat(refused.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+        assertThat(gzipped.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(gzipped.getHeaders().getFirst(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+        try (final GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(gzipped.getBody()))) {
+            assertThat(StreamUtils.copyToByteArray(inputStream)).isEqualTo(plain.getBody());
+        }
+    }
+
+    @Test
+    void eachEncodingHasItsOwnETag() {
+        final MockHttpServletResponse plain = new MockHttpServletResponse();
+        final MockHttpServletResponse gzipped = new MockHttpServletResponse();
+
+        responseCache.get("key", "v1", request("identity", null, plain), body);
+        responseCache.get("key", "v1", request("gzip", null, gzipped), body);
+
+        assertThat(plain.getHeader(HttpHeaders.ETAG)).isEqualTo("\"v1\"");
+        assertThat(gzipped.getHeader(HttpHeaders.ETAG)).isEqualTo("\"v1-gzip\"");
+    }
+
+    @Test
+    void ifNoneMatchIsCheckedAgainstNegotiatedEncoding() {
+        final ResponseEntity<byte[]> otherEncoding = responseCache.get(
+                "key", "v1", request("gzip", "\"v1\"", new MockHttpServletResponse()), body
+        );
+        final ResponseEntity<byte[]> sameEncoding = responseCache.get(
+                "key", "v1", request("gzip", "\"v1-gzip\"", new MockHttpServletResponse()), body
+        );
+
+        assertThat(otherEncoding.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(otherEncoding.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(sameEncoding.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(sameEncoding.getBody()).isNull();
+        assertThat(sameEncoding.getHeaders().getFirst(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+    }
+
+    private WebRequest request(final String acceptEncoding) {
+        return request(acceptEncoding, null, null);
+    }
+
+    private WebRequest request(final String acceptEncoding, final String ifNoneMatch, final MockHttpServletResponse response) {
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        if (acceptEncoding != null) {
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return new ServletWebRequest(request, response);
+    }
+}
@@ -0,0 +1,30 @@
+package kitchenpos.ui;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "spring.threads.virtual.enabled=true")
+class VirtualThreadsTest {
+    @Autowired
+    private ServletWebServerApplicationContext context;
+
+    @Test
+    void requestsRunOnVirtualThreads() throws Exception {
+        final TomcatWebServer webServer = (TomcatWebServer) context.getWebServer();
+        final Executor executor = webServer.getTomcat().getConnector().getProtocolHandler().getExecutor();
+        final FutureTask<Boolean> isVirtual = new FutureTask<>(() -> Thread.currentThread().isVirtual());
+
+        executor.execute(isVirtual);
+
+        assertThat(isVirtual.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+}
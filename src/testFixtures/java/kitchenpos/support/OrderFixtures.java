@@ -0,0 +1,54 @@
+package kitchenpos.support;
+
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Order requests for tests and benchmarks. Menu ids refer to the menus seeded by the migrations.
+ */
+public final class OrderFixtures {
+    private OrderFixtures() {
+    }
+
+    /**
+     * An order with one line item of quantity 1 per menu id.
+     */
+    public static Order order(final Long orderTableId, final Long... menuIds) {
+        final List<OrderLineItem> orderLineItems = new ArrayList<>();
+        for (final Long menuId : menuIds) {
+            final OrderLineItem orderLineItem = new OrderLineItem();
+            orderLineItem.setMenuId(menuId);
+            orderLineItem.setQuantity(1);
+            orderLineItems.add(orderLineItem);
+        }
+        final Order order = new Order();
+        order.setOrderTableId(orderTableId);
+        order.setOrderLineItems(orderLineItems);
+        return order;
+    }
+
+    /**
+     * An order of the first {@code numberOfMenus} menus, one each.
+     */
+    public static Order orderOfMenus(final Long orderTableId, final int numberOfMenus) {
+        final Long[] menuIds = new Long[numberOfMenus];
+        for (int i = 0; i < numberOfMenus; i++) {
+            menuIds[i] = (long) (i + 1);
+        }
+        return order(orderTableId, menuIds);
+    }
+
+    /**
+     * An order as it reads after it was saved, without line items.
+     */
+    public static Order savedOrder(final Long orderId, final Long orderTableId, final OrderStatus orderStatus) {
+        final Order order = order(orderTableId);
+        order.setId(orderId);
+        order.setOrderStatus(orderStatus.name());
+        return order;
+    }
+}